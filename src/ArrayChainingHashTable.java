@@ -0,0 +1,207 @@
+import java.util.*;
+
+public class ArrayChainingHashTable implements HashTable {
+    private static final int FIM = -1;
+    private static final int CAPACIDADE_INICIAL_POOL = 16;
+    private static final int[] POTENCIAS_10 = {
+            100000000, 10000000, 1000000, 100000, 10000, 1000, 100, 10, 1
+    };
+
+    // Encadeamento sem objetos: cabecas[b] aponta para a primeira entrada do balde b,
+    // proximo[i] para a entrada seguinte da mesma lista. 8 bytes por elemento.
+    private int[] cabecas;
+    private int[] chaves;
+    private int[] proximo;
+    private int colisoes;
+    private int tamanho;
+
+    public ArrayChainingHashTable(int capacidade) {
+        this.cabecas = new int[capacidade];
+        this.chaves = new int[CAPACIDADE_INICIAL_POOL];
+        this.proximo = new int[CAPACIDADE_INICIAL_POOL];
+        this.colisoes = 0;
+        this.tamanho = 0;
+        Arrays.fill(cabecas, FIM);
+    }
+
+    private int funcaoHash(int codigo) {
+        // Mesma função do ChainingHashTable (primo 37 sobre os 9 dígitos), para comparar as listas
+        int hash = 0;
+        for (int potencia : POTENCIAS_10) {
+            hash = (hash * 37 + (codigo / potencia) % 10) & 0x7FFFFFFF;
+        }
+        return hash % cabecas.length;
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        inserir(registro.getCodigoNumerico());
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        return buscar(registro.getCodigoNumerico());
+    }
+
+    @Override
+    public void inserir(int codigo) {
+        int indice = funcaoHash(codigo);
+
+        // Mesmo critério do ChainingHashTable: colisões = elementos já na lista, inteira,
+        // mesmo quando o código já está lá
+        boolean existe = false;
+        for (int i = cabecas[indice]; i != FIM; i = proximo[i]) {
+            colisoes++;
+            if (chaves[i] == codigo) {
+                existe = true;
+            }
+        }
+        if (existe) {
+            return;
+        }
+
+        if (tamanho == chaves.length) {
+            int novaCapacidade = chaves.length + (chaves.length >> 1);
+            chaves = Arrays.copyOf(chaves, novaCapacidade);
+            proximo = Arrays.copyOf(proximo, novaCapacidade);
+        }
+
+        chaves[tamanho] = codigo;
+        proximo[tamanho] = cabecas[indice];
+        cabecas[indice] = tamanho;
+        tamanho++;
+    }
+
+    @Override
+    public boolean buscar(int codigo) {
+        int indice = funcaoHash(codigo);
+        for (int i = cabecas[indice]; i != FIM; i = proximo[i]) {
+            if (chaves[i] == codigo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int tamanhoLista(int balde) {
+        int tamanhoLista = 0;
+        for (int i = cabecas[balde]; i != FIM; i = proximo[i]) {
+            tamanhoLista++;
+        }
+        return tamanhoLista;
+    }
+
+    public long getBytesPorElemento() {
+        if (tamanho == 0) {
+            return 0;
+        }
+        long bytes = 4L * cabecas.length + 4L * chaves.length + 4L * proximo.length;
+        return bytes / tamanho;
+    }
+
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+
+    @Override
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho / cabecas.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        int listasVazias = 0;
+        int listasNaoVazias = 0;
+        for (int cabeca : cabecas) {
+            if (cabeca == FIM) {
+                listasVazias++;
+            } else {
+                listasNaoVazias++;
+            }
+        }
+
+        System.out.println("** Estatísticas Encadeamento (arrays) **");
+        System.out.println("Listas vazias: " + listasVazias + " (" +
+                String.format("%.2f", listasVazias * 100.0 / cabecas.length) + "%)");
+        System.out.println("Maior lista: " + getMaiorLista());
+
+        if (listasNaoVazias > 0) {
+            System.out.println("Média elementos por lista não vazia: " +
+                    String.format("%.2f", (double) tamanho / listasNaoVazias));
+        }
+        System.out.println("Bytes por elemento: " + getBytesPorElemento());
+
+        System.out.println("3 maiores listas:");
+        for (Integer tamanhoLista : getTresMaioresListas()) {
+            System.out.println("  - " + tamanhoLista + " elementos");
+        }
+
+        int[] gaps = getGaps();
+        if (listasNaoVazias > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int getMaiorLista() {
+        int maiorLista = 0;
+        for (int b = 0; b < cabecas.length; b++) {
+            maiorLista = Math.max(maiorLista, tamanhoLista(b));
+        }
+        return maiorLista;
+    }
+
+    @Override
+    public List<Integer> getTresMaioresListas() {
+        PriorityQueue<Integer> maioresListas = new PriorityQueue<>(Collections.reverseOrder());
+        for (int b = 0; b < cabecas.length; b++) {
+            if (cabecas[b] != FIM) {
+                maioresListas.add(tamanhoLista(b));
+            }
+        }
+
+        List<Integer> resultado = new ArrayList<>();
+        for (int i = 0; i < 3 && !maioresListas.isEmpty(); i++) {
+            resultado.add(maioresListas.poll());
+        }
+        return resultado;
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < cabecas.length; i++) {
+            if (cabecas[i] != FIM) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
@@ -0,0 +1,107 @@
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Lê os datasets texto (um código de 9 dígitos por linha) direto do arquivo mapeado em
+// memória, sem BufferedReader, String ou Registro por linha
+public class CarregadorDados {
+    private static final ValueLayout.OfLong LONG_LE =
+            ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final int DIGITOS = 9;
+
+    private CarregadorDados() {
+    }
+
+    public static int[] carregar(String arquivo) throws IOException {
+        int[][] codigos = {new int[1024]};
+        int[] quantidade = {0};
+        carregar(arquivo, codigo -> {
+            if (quantidade[0] == codigos[0].length) {
+                codigos[0] = Arrays.copyOf(codigos[0], codigos[0].length + (codigos[0].length >> 1));
+            }
+            codigos[0][quantidade[0]++] = codigo;
+        });
+        return Arrays.copyOf(codigos[0], quantidade[0]);
+    }
+
+    public static void carregar(String arquivo, IntConsumer consumidor) throws IOException {
+        try (FileChannel canal = FileChannel.open(Path.of(arquivo), StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            // Um único mapeamento, de qualquer tamanho (MemorySegment não tem o limite de 2 GB do
+            // MappedByteBuffer); o arena desfaz o mapeamento ao fechar
+            carregar(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size(), arena), consumidor);
+        }
+    }
+
+    // Também usado pelo PipelineIngestao, sobre blocos de texto que terminam em fim de linha
+    static void carregar(MemorySegment dados, IntConsumer consumidor) throws IOException {
+        long fim = dados.byteSize();
+        long p = 0;
+
+        while (p < fim) {
+            byte b = dados.get(ValueLayout.JAVA_BYTE, p);
+            // Espaços e quebras de linha (\n ou \r\n) entre códigos: o trim() do carregarDados
+            if (b <= ' ') {
+                p++;
+                continue;
+            }
+
+            // Caminho rápido: 8 dígitos num long + o nono, seguidos de fim de linha ou de arquivo
+            if (p + DIGITOS <= fim) {
+                long palavra = dados.get(LONG_LE, p);
+                int nono = dados.get(ValueLayout.JAVA_BYTE, p + 8) - '0';
+                if (saoOitoDigitos(palavra) && nono >= 0 && nono <= 9
+                        && (p + DIGITOS == fim || dados.get(ValueLayout.JAVA_BYTE, p + DIGITOS) <= ' ')) {
+                    consumidor.accept(oitoDigitos(palavra) * 10 + nono);
+                    p += DIGITOS;
+                    continue;
+                }
+            }
+
+            p = carregarLento(dados, p, fim, consumidor);
+        }
+    }
+
+    // Linha fora do formato de 9 dígitos: mesma regra do construtor de Registro
+    private static long carregarLento(MemorySegment dados, long inicio, long fim, IntConsumer consumidor)
+            throws IOException {
+        long p = inicio;
+        int codigo = 0;
+        while (p < fim && dados.get(ValueLayout.JAVA_BYTE, p) > ' ') {
+            int digito = dados.get(ValueLayout.JAVA_BYTE, p) - '0';
+            if (digito < 0 || digito > 9 || p - inicio >= DIGITOS) {
+                throw new IOException("Código inválido na posição " + inicio + ": deve ter 9 dígitos");
+            }
+            codigo = codigo * 10 + digito;
+            p++;
+        }
+        if (p - inicio != DIGITOS) {
+            throw new IOException("Código inválido na posição " + inicio + ": deve ter 9 dígitos");
+        }
+        consumidor.accept(codigo);
+        return p;
+    }
+
+    // Todos os 8 bytes entre '0' (0x30) e '9' (0x39): nibble alto 3 e nibble baixo + 6 sem passar de 0xF
+    private static boolean saoOitoDigitos(long palavra) {
+        return ((palavra & 0xF0F0F0F0F0F0F0F0L)
+                | (((palavra + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) == 0x3333333333333333L;
+    }
+
+    // SWAR: 8 dígitos ASCII (o primeiro no byte menos significativo) viram um inteiro
+    // em 3 passos de multiplicação, juntando pares, depois quartetos, depois o octeto
+    private static int oitoDigitos(long palavra) {
+        long valor = palavra - 0x3030303030303030L;
+        valor = valor * 10 + (valor >>> 8);
+        valor = (((valor & 0x000000FF000000FFL) * (100 + (1000000L << 32)))
+                + (((valor >>> 16) & 0x000000FF000000FFL) * (1 + (10000L << 32)))) >>> 32;
+        return (int) valor;
+    }
+}
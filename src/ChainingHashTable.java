@@ -1,17 +1,47 @@
 import java.util.*;
 
-public class ChainingHashTable implements HashTable {
-    private LinkedList<Registro>[] tabela;
+public class ChainingHashTable implements HashTableComRemocao {
+    // Como no java.util.HashMap: a lista vira árvore ao passar de 8 elementos
+    // e volta a ser lista quando encolhe para 6 (a folga evita alternar a cada operação)
+    private static final int LIMIAR_ARVORE = 8;
+    private static final int LIMIAR_LISTA = 6;
+    private static final Comparator<Registro> POR_CODIGO = Comparator.comparing(Registro::getCodigo);
+
+    // Diretório em segmentos de 1024 baldes: crescer só acrescenta segmentos,
+    // nunca copia um array de baldes inteiro
+    private static final int BITS_SEGMENTO = 10;
+    private static final int TAMANHO_SEGMENTO = 1 << BITS_SEGMENTO;
+
+    private Collection<Registro>[][] segmentos;
+    private int numBaldes;
     private int colisoes;
     private int tamanho;
 
+    // Linear hashing: 0 = capacidade fixa; senão divide um balde por vez ao passar do fator
+    private double fatorCargaMaximo;
+    private int baldesIniciais;
+    private int nivel;
+    private int proximaDivisao;
+
     public ChainingHashTable(int capacidade) {
-        this.tabela = new LinkedList[capacidade];
+        this(capacidade, 0);
+    }
+
+    public ChainingHashTable(int capacidade, double fatorCargaMaximo) {
+        if (fatorCargaMaximo < 0) {
+            throw new IllegalArgumentException("Fator de carga máximo não pode ser negativo");
+        }
+        this.segmentos = new Collection[(capacidade + TAMANHO_SEGMENTO - 1) / TAMANHO_SEGMENTO][];
+        this.numBaldes = 0;
         this.colisoes = 0;
         this.tamanho = 0;
+        this.fatorCargaMaximo = fatorCargaMaximo;
+        this.baldesIniciais = capacidade;
+        this.nivel = 0;
+        this.proximaDivisao = 0;
 
         for (int i = 0; i < capacidade; i++) {
-            tabela[i] = new LinkedList<>();
+            adicionarBalde();
         }
     }
 
@@ -21,29 +51,123 @@ public class ChainingHashTable implements HashTable {
         for (int i = 0; i < codigo.length(); i++) {
             hash = (hash * 37 + (codigo.charAt(i) - '0')) & 0x7FFFFFFF;
         }
-        return hash % tabela.length;
+        return hash;
+    }
+
+    private int indice(int hash) {
+        // Baldes antes de proximaDivisao já foram divididos e usam o módulo do próximo nível
+        int indice = (int) (hash % ((long) baldesIniciais << nivel));
+        if (indice < proximaDivisao) {
+            indice = (int) (hash % ((long) baldesIniciais << (nivel + 1)));
+        }
+        return indice;
+    }
+
+    private Collection<Registro> balde(int indice) {
+        return segmentos[indice >>> BITS_SEGMENTO][indice & (TAMANHO_SEGMENTO - 1)];
+    }
+
+    private void definirBalde(int indice, Collection<Registro> lista) {
+        segmentos[indice >>> BITS_SEGMENTO][indice & (TAMANHO_SEGMENTO - 1)] = lista;
+    }
+
+    private void adicionarBalde() {
+        int segmento = numBaldes >>> BITS_SEGMENTO;
+        if (segmento == segmentos.length) {
+            // Só o diretório (uma referência por segmento) é copiado
+            segmentos = Arrays.copyOf(segmentos, Math.max(1, segmentos.length * 2));
+        }
+        if (segmentos[segmento] == null) {
+            segmentos[segmento] = new Collection[TAMANHO_SEGMENTO];
+        }
+        definirBalde(numBaldes, new LinkedList<>());
+        numBaldes++;
+    }
+
+    private void adicionarNaLista(int indice, Registro registro) {
+        Collection<Registro> lista = balde(indice);
+        lista.add(registro);
+
+        if (lista.size() > LIMIAR_ARVORE && lista instanceof LinkedList) {
+            TreeSet<Registro> arvore = new TreeSet<>(POR_CODIGO);
+            arvore.addAll(lista);
+            definirBalde(indice, arvore);
+        }
+    }
+
+    private void dividirProximoBalde() {
+        int origem = proximaDivisao;
+        long moduloNovo = (long) baldesIniciais << (nivel + 1);
+        Collection<Registro> antiga = balde(origem);
+
+        adicionarBalde();
+        definirBalde(origem, new LinkedList<>());
+        // Cada elemento fica na origem ou vai para o balde novo (origem + baldesIniciais * 2^nivel)
+        for (Registro registro : antiga) {
+            adicionarNaLista((int) (funcaoHash(registro.getCodigo()) % moduloNovo), registro);
+        }
+
+        proximaDivisao++;
+        if (proximaDivisao == (long) baldesIniciais << nivel) {
+            nivel++;
+            proximaDivisao = 0;
+        }
     }
 
     @Override
     public void inserir(Registro registro) {
-        int indice = funcaoHash(registro.getCodigo());
+        int indice = indice(funcaoHash(registro.getCodigo()));
+        Collection<Registro> lista = balde(indice);
 
         // Conta colisões baseado no critério do trabalho:
         // Para encontrar posição vazia, cada elemento verificado = 1 colisão
-        if (!tabela[indice].isEmpty()) {
-            colisoes += tabela[indice].size(); // Colisões = elementos já na lista
+        if (!lista.isEmpty()) {
+            colisoes += lista.size(); // Colisões = elementos já na lista
         }
 
-        if (!tabela[indice].contains(registro)) {
-            tabela[indice].add(registro);
+        if (!lista.contains(registro)) {
+            adicionarNaLista(indice, registro);
             tamanho++;
+
+            if (fatorCargaMaximo > 0 && tamanho > fatorCargaMaximo * numBaldes) {
+                dividirProximoBalde();
+            }
+        }
+    }
+
+    @Override
+    public boolean remover(Registro registro) {
+        int indice = indice(funcaoHash(registro.getCodigo()));
+        Collection<Registro> lista = balde(indice);
+        if (!lista.remove(registro)) {
+            return false;
+        }
+        tamanho--;
+
+        if (lista.size() <= LIMIAR_LISTA && lista instanceof TreeSet) {
+            definirBalde(indice, new LinkedList<>(lista));
+        }
+        return true;
+    }
+
+    public int getListasArvore() {
+        int arvores = 0;
+        for (int b = 0; b < numBaldes; b++) {
+            Collection<Registro> lista = balde(b);
+            if (lista instanceof TreeSet) {
+                arvores++;
+            }
         }
+        return arvores;
     }
 
     @Override
     public boolean buscar(Registro registro) {
-        int indice = funcaoHash(registro.getCodigo());
-        return tabela[indice].contains(registro);
+        return balde(indice(funcaoHash(registro.getCodigo()))).contains(registro);
+    }
+
+    public int getNumBaldes() {
+        return numBaldes;
     }
 
     @Override
@@ -58,7 +182,7 @@ public class ChainingHashTable implements HashTable {
 
     @Override
     public double getFatorCarga() {
-        return (double) tamanho / tabela.length;
+        return (double) tamanho / numBaldes;
     }
 
     @Override
@@ -69,7 +193,8 @@ public class ChainingHashTable implements HashTable {
         int listasNaoVazias = 0;
         PriorityQueue<Integer> maioresListas = new PriorityQueue<>(Collections.reverseOrder());
 
-        for (LinkedList<Registro> lista : tabela) {
+        for (int b = 0; b < numBaldes; b++) {
+            Collection<Registro> lista = balde(b);
             if (lista.isEmpty()) {
                 listasVazias++;
             } else {
@@ -83,8 +208,9 @@ public class ChainingHashTable implements HashTable {
 
         System.out.println("** Estatísticas Encadeamento **");
         System.out.println("Listas vazias: " + listasVazias + " (" +
-                String.format("%.2f", listasVazias * 100.0 / tabela.length) + "%)");
+                String.format("%.2f", listasVazias * 100.0 / numBaldes) + "%)");
         System.out.println("Maior lista: " + maiorLista);
+        System.out.println("Listas convertidas em árvore: " + getListasArvore());
 
         if (listasNaoVazias > 0) {
             System.out.println("Média elementos por lista não vazia: " +
@@ -103,8 +229,8 @@ public class ChainingHashTable implements HashTable {
         int gapsCount = 0;
         int ultimaPosicaoOcupada = -1;
 
-        for (int i = 0; i < tabela.length; i++) {
-            if (!tabela[i].isEmpty()) {
+        for (int i = 0; i < numBaldes; i++) {
+            if (!balde(i).isEmpty()) {
                 if (ultimaPosicaoOcupada != -1) {
                     int gap = i - ultimaPosicaoOcupada - 1;
                     menorGap = Math.min(menorGap, gap);
@@ -129,7 +255,8 @@ public class ChainingHashTable implements HashTable {
     // Métodos para extrair estatísticas para o relatório
     public int getMaiorLista() {
         int maiorLista = 0;
-        for (LinkedList<Registro> lista : tabela) {
+        for (int b = 0; b < numBaldes; b++) {
+            Collection<Registro> lista = balde(b);
             maiorLista = Math.max(maiorLista, lista.size());
         }
         return maiorLista;
@@ -137,7 +264,8 @@ public class ChainingHashTable implements HashTable {
     
     public List<Integer> getTresMaioresListas() {
         PriorityQueue<Integer> maioresListas = new PriorityQueue<>(Collections.reverseOrder());
-        for (LinkedList<Registro> lista : tabela) {
+        for (int b = 0; b < numBaldes; b++) {
+            Collection<Registro> lista = balde(b);
             if (!lista.isEmpty()) {
                 maioresListas.add(lista.size());
             }
@@ -158,8 +286,8 @@ public class ChainingHashTable implements HashTable {
         int gapsCount = 0;
         int ultimaPosicaoOcupada = -1;
 
-        for (int i = 0; i < tabela.length; i++) {
-            if (!tabela[i].isEmpty()) {
+        for (int i = 0; i < numBaldes; i++) {
+            if (!balde(i).isEmpty()) {
                 if (ultimaPosicaoOcupada != -1) {
                     int gap = i - ultimaPosicaoOcupada - 1;
                     menorGap = Math.min(menorGap, gap);
@@ -0,0 +1,311 @@
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+
+public class ConcurrentChainingHashTable implements HashTable {
+    private static final int CAPACIDADE_INICIAL_LISTA = 4;
+
+    // Cada balde é um Registro[] que cresce sob a trava de escrita da sua faixa;
+    // tamanhosListas[b] diz quantas posições do balde b estão em uso
+    private final Registro[][] baldes;
+    private final int[] tamanhosListas;
+    // Faixas de travas: o balde b é protegido por travas[b & mascaraTravas].
+    // No modo de leitura otimista usa-se travasOtimistas no lugar de travas (a outra fica null)
+    private final ReentrantReadWriteLock[] travas;
+    private final StampedLock[] travasOtimistas;
+    private final int mascaraTravas;
+    private final LongAdder colisoes;
+    private final LongAdder tamanho;
+
+    public ConcurrentChainingHashTable(int capacidade) {
+        // Algumas faixas por núcleo deixam a chance de duas threads disputarem a mesma trava baixa
+        this(capacidade, Runtime.getRuntime().availableProcessors() * 16);
+    }
+
+    public ConcurrentChainingHashTable(int capacidade, int numTravas) {
+        this(capacidade, numTravas, false);
+    }
+
+    // leituraOtimista: buscar usa StampedLock.tryOptimisticRead e não escreve em nada compartilhado;
+    // só cai para a trava de leitura se um escritor mexeu na faixa durante a busca
+    public ConcurrentChainingHashTable(int capacidade, int numTravas, boolean leituraOtimista) {
+        if (numTravas <= 0) {
+            throw new IllegalArgumentException("Número de travas deve ser positivo");
+        }
+        int faixas = Integer.highestOneBit(Math.min(numTravas, Math.max(1, capacidade)));
+        this.baldes = new Registro[capacidade][];
+        this.tamanhosListas = new int[capacidade];
+        this.travas = leituraOtimista ? null : new ReentrantReadWriteLock[faixas];
+        this.travasOtimistas = leituraOtimista ? new StampedLock[faixas] : null;
+        this.mascaraTravas = faixas - 1;
+        this.colisoes = new LongAdder();
+        this.tamanho = new LongAdder();
+
+        for (int i = 0; i < faixas; i++) {
+            if (leituraOtimista) {
+                travasOtimistas[i] = new StampedLock();
+            } else {
+                travas[i] = new ReentrantReadWriteLock();
+            }
+        }
+    }
+
+    private int funcaoHash(String codigo) {
+        // Mesma função do ChainingHashTable (primo 37)
+        int hash = 0;
+        for (int i = 0; i < codigo.length(); i++) {
+            hash = (hash * 37 + (codigo.charAt(i) - '0')) & 0x7FFFFFFF;
+        }
+        return hash % baldes.length;
+    }
+
+    private ReentrantReadWriteLock trava(int indice) {
+        return travas[indice & mascaraTravas];
+    }
+
+    private StampedLock travaOtimista(int indice) {
+        return travasOtimistas[indice & mascaraTravas];
+    }
+
+    private boolean contemNaLista(int indice, Registro registro) {
+        Registro[] lista = baldes[indice];
+        int tamanhoLista = tamanhosListas[indice];
+        for (int i = 0; i < tamanhoLista; i++) {
+            if (lista[i].equals(registro)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Leitura sem trava: o estado pode estar pela metade (array antigo com tamanho novo,
+    // posição ainda null), então só vale se validate() confirmar que ninguém escreveu
+    private boolean contemOtimista(int indice, Registro registro) {
+        Registro[] lista = baldes[indice];
+        if (lista == null) {
+            return false;
+        }
+        int tamanhoLista = Math.min(tamanhosListas[indice], lista.length);
+        for (int i = 0; i < tamanhoLista; i++) {
+            Registro atual = lista[i];
+            if (atual != null && atual.equals(registro)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        int indice = funcaoHash(registro.getCodigo());
+        boolean inserido;
+
+        if (travasOtimistas != null) {
+            StampedLock trava = travaOtimista(indice);
+            long carimbo = trava.writeLock();
+            try {
+                inserido = inserirNaLista(indice, registro);
+            } finally {
+                trava.unlockWrite(carimbo);
+            }
+        } else {
+            ReentrantReadWriteLock.WriteLock escrita = trava(indice).writeLock();
+            escrita.lock();
+            try {
+                inserido = inserirNaLista(indice, registro);
+            } finally {
+                escrita.unlock();
+            }
+        }
+
+        if (inserido) {
+            tamanho.increment();
+        }
+    }
+
+    private boolean inserirNaLista(int indice, Registro registro) {
+        int tamanhoLista = tamanhosListas[indice];
+        // Mesmo critério do encadeamento: cada elemento já na lista = 1 colisão
+        colisoes.add(tamanhoLista);
+
+        if (contemNaLista(indice, registro)) {
+            return false;
+        }
+
+        Registro[] lista = baldes[indice];
+        if (lista == null) {
+            lista = new Registro[CAPACIDADE_INICIAL_LISTA];
+        } else if (tamanhoLista == lista.length) {
+            lista = Arrays.copyOf(lista, lista.length * 2);
+        }
+        lista[tamanhoLista] = registro;
+        baldes[indice] = lista;
+        tamanhosListas[indice] = tamanhoLista + 1;
+        return true;
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        int indice = funcaoHash(registro.getCodigo());
+
+        if (travasOtimistas != null) {
+            StampedLock trava = travaOtimista(indice);
+            long carimbo = trava.tryOptimisticRead();
+            if (carimbo != 0) {
+                boolean encontrado = contemOtimista(indice, registro);
+                if (trava.validate(carimbo)) {
+                    return encontrado;
+                }
+            }
+            carimbo = trava.readLock();
+            try {
+                return contemNaLista(indice, registro);
+            } finally {
+                trava.unlockRead(carimbo);
+            }
+        }
+
+        ReentrantReadWriteLock.ReadLock leitura = trava(indice).readLock();
+
+        leitura.lock();
+        try {
+            return contemNaLista(indice, registro);
+        } finally {
+            leitura.unlock();
+        }
+    }
+
+    private int tamanhoLista(int indice) {
+        if (travasOtimistas != null) {
+            StampedLock trava = travaOtimista(indice);
+            long carimbo = trava.readLock();
+            try {
+                return tamanhosListas[indice];
+            } finally {
+                trava.unlockRead(carimbo);
+            }
+        }
+
+        ReentrantReadWriteLock.ReadLock leitura = trava(indice).readLock();
+        leitura.lock();
+        try {
+            return tamanhosListas[indice];
+        } finally {
+            leitura.unlock();
+        }
+    }
+
+    @Override
+    public boolean isConcorrente() {
+        return true;
+    }
+
+    @Override
+    public int getColisoes() {
+        return (int) colisoes.sum();
+    }
+
+    @Override
+    public int getTamanho() {
+        return (int) tamanho.sum();
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho.sum() / baldes.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        int listasVazias = 0;
+        int listasNaoVazias = 0;
+        for (int b = 0; b < baldes.length; b++) {
+            if (tamanhoLista(b) == 0) {
+                listasVazias++;
+            } else {
+                listasNaoVazias++;
+            }
+        }
+
+        System.out.println("** Estatísticas Encadeamento Concorrente **");
+        System.out.println("Faixas de travas: " + (mascaraTravas + 1) +
+                (travasOtimistas != null ? " (leitura otimista)" : ""));
+        System.out.println("Listas vazias: " + listasVazias + " (" +
+                String.format("%.2f", listasVazias * 100.0 / baldes.length) + "%)");
+        System.out.println("Maior lista: " + getMaiorLista());
+
+        if (listasNaoVazias > 0) {
+            System.out.println("Média elementos por lista não vazia: " +
+                    String.format("%.2f", (double) getTamanho() / listasNaoVazias));
+        }
+
+        System.out.println("3 maiores listas:");
+        for (Integer tamanhoLista : getTresMaioresListas()) {
+            System.out.println("  - " + tamanhoLista + " elementos");
+        }
+
+        int[] gaps = getGaps();
+        if (listasNaoVazias > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int getMaiorLista() {
+        int maiorLista = 0;
+        for (int b = 0; b < baldes.length; b++) {
+            maiorLista = Math.max(maiorLista, tamanhoLista(b));
+        }
+        return maiorLista;
+    }
+
+    @Override
+    public List<Integer> getTresMaioresListas() {
+        PriorityQueue<Integer> maioresListas = new PriorityQueue<>(Collections.reverseOrder());
+        for (int b = 0; b < baldes.length; b++) {
+            int tamanhoLista = tamanhoLista(b);
+            if (tamanhoLista > 0) {
+                maioresListas.add(tamanhoLista);
+            }
+        }
+
+        List<Integer> resultado = new ArrayList<>();
+        for (int i = 0; i < 3 && !maioresListas.isEmpty(); i++) {
+            resultado.add(maioresListas.poll());
+        }
+        return resultado;
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < baldes.length; i++) {
+            if (tamanhoLista(i) > 0) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
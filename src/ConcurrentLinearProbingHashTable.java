@@ -0,0 +1,174 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConcurrentLinearProbingHashTable implements HashTableComRemocao {
+    private static final Registro DELETED = new Registro("000000000");
+    private static final VarHandle POSICOES = MethodHandles.arrayElementVarHandle(Registro[].class);
+
+    // Cada posição só avança null -> registro -> DELETED e nunca volta a null.
+    // Por isso DELETED não é reaproveitado: se fosse, duas threads inserindo a mesma
+    // chave poderiam ocupar posições diferentes (uma no DELETED, outra mais adiante).
+    private final Registro[] tabela;
+    private final LongAdder colisoes;
+    private final LongAdder tamanho;
+
+    public ConcurrentLinearProbingHashTable(int capacidade) {
+        this.tabela = new Registro[capacidade];
+        this.colisoes = new LongAdder();
+        this.tamanho = new LongAdder();
+    }
+
+    private int funcaoHash(String codigo) {
+        // Mesma função multiplicativa de Knuth do Linear Probing
+        long hash = 0;
+        long A = 2654435761L;
+        for (int i = 0; i < codigo.length(); i++) {
+            hash = hash * A + (codigo.charAt(i) - '0');
+        }
+        return (int)((hash & 0x7FFFFFFF) % tabela.length);
+    }
+
+    private int rehash(int indice) {
+        int proximo = indice + 1;
+        return proximo == tabela.length ? 0 : proximo;
+    }
+
+    private Registro ler(int indice) {
+        return (Registro) POSICOES.getAcquire(tabela, indice);
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        int indice = funcaoHash(registro.getCodigo());
+
+        // Lock-free: a thread só repete a leitura de uma posição quando outra ganhou a corrida por ela
+        for (int tentativas = 0; tentativas < tabela.length; tentativas++) {
+            Registro atual = ler(indice);
+            if (atual == null) {
+                if (POSICOES.compareAndSet(tabela, indice, null, registro)) {
+                    tamanho.increment();
+                    return;
+                }
+                atual = ler(indice);
+            }
+            if (atual != DELETED && atual.equals(registro)) {
+                return;
+            }
+            colisoes.increment();
+            indice = rehash(indice);
+        }
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        int indice = funcaoHash(registro.getCodigo());
+
+        // Wait-free: no máximo tabela.length leituras, sem travas nem CAS
+        for (int tentativas = 0; tentativas < tabela.length; tentativas++) {
+            Registro atual = ler(indice);
+            if (atual == null) {
+                return false;
+            }
+            if (atual != DELETED && atual.equals(registro)) {
+                return true;
+            }
+            indice = rehash(indice);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remover(Registro registro) {
+        int indice = funcaoHash(registro.getCodigo());
+
+        for (int tentativas = 0; tentativas < tabela.length; tentativas++) {
+            Registro atual = ler(indice);
+            if (atual == null) {
+                return false;
+            }
+            if (atual != DELETED && atual.equals(registro)) {
+                // Se o CAS falhar, outra thread já marcou esta posição como DELETED
+                if (POSICOES.compareAndSet(tabela, indice, atual, DELETED)) {
+                    tamanho.decrement();
+                    return true;
+                }
+                return false;
+            }
+            indice = rehash(indice);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isConcorrente() {
+        return true;
+    }
+
+    @Override
+    public int getColisoes() {
+        return (int) colisoes.sum();
+    }
+
+    @Override
+    public int getTamanho() {
+        return (int) tamanho.sum();
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho.sum() / tabela.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        System.out.println("** Estatísticas Linear Probing Concorrente **");
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+
+        int removidos = 0;
+        for (int i = 0; i < tabela.length; i++) {
+            if (ler(i) == DELETED) {
+                removidos++;
+            }
+        }
+        System.out.println("Posições DELETED: " + removidos);
+
+        int[] gaps = getGaps();
+        if (getTamanho() > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < tabela.length; i++) {
+            Registro atual = ler(i);
+            if (atual != null && atual != DELETED) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
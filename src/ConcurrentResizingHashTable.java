@@ -0,0 +1,300 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConcurrentResizingHashTable implements HashTable {
+    private static final int INSERIDO = 1;
+    private static final int EXISTENTE = 0;
+    private static final int ENCAMINHADO = -1;
+    // Marca posição já migrada: quem a encontra continua na próxima tabela
+    private static final Registro MOVIDO = new Registro("000000000");
+    private static final VarHandle POSICOES = MethodHandles.arrayElementVarHandle(Registro[].class);
+    // Faixa de posições que uma thread migra de cada vez (como o stride do ConcurrentHashMap.transfer)
+    private static final int PASSO_MIGRACAO = 1024;
+    private static final double FATOR_CARGA_MAXIMO = 0.75;
+    private static final VarHandle ATUAL;
+
+    static {
+        try {
+            ATUAL = MethodHandles.lookup().findVarHandle(ConcurrentResizingHashTable.class, "atual", Tabela.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final class Tabela {
+        final Registro[] posicoes;
+        final int limite;
+        final AtomicInteger ocupadas = new AtomicInteger();
+        final AtomicReference<Tabela> proxima = new AtomicReference<>();
+        final AtomicInteger proximoPasso = new AtomicInteger();
+        final AtomicInteger migradas = new AtomicInteger();
+
+        Tabela(int capacidade) {
+            this.posicoes = new Registro[capacidade];
+            this.limite = (int) (capacidade * FATOR_CARGA_MAXIMO);
+        }
+    }
+
+    // Posições só avançam null -> registro -> MOVIDO; não há remoção nesta tabela
+    private volatile Tabela atual;
+    private final LongAdder colisoes;
+    private final LongAdder tamanho;
+    private final AtomicInteger redimensionamentos;
+
+    public ConcurrentResizingHashTable(int capacidadeInicial) {
+        this.atual = new Tabela(Math.max(2, capacidadeInicial));
+        this.colisoes = new LongAdder();
+        this.tamanho = new LongAdder();
+        this.redimensionamentos = new AtomicInteger();
+    }
+
+    private int funcaoHash(String codigo, int capacidade) {
+        // Mesma função multiplicativa de Knuth do Linear Probing
+        long hash = 0;
+        long A = 2654435761L;
+        for (int i = 0; i < codigo.length(); i++) {
+            hash = hash * A + (codigo.charAt(i) - '0');
+        }
+        return (int)((hash & 0x7FFFFFFF) % capacidade);
+    }
+
+    private static Registro ler(Tabela tabela, int indice) {
+        return (Registro) POSICOES.getAcquire(tabela.posicoes, indice);
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        Tabela tabela = atual;
+        // Quem insere durante um redimensionamento ajuda com uma faixa de cada tabela em migração
+        for (Tabela migrando = tabela; migrando.proxima.get() != null; migrando = migrando.proxima.get()) {
+            ajudarMigracao(migrando);
+        }
+        // A inserção percorre o mesmo caminho da busca, desde a tabela mais antiga:
+        // só passa para a nova ao encontrar MOVIDO (ou tabela cheia), como o leitor faria
+        inserirAPartirDe(tabela, registro, true);
+    }
+
+    private void inserirAPartirDe(Tabela tabela, Registro registro, boolean novo) {
+        while (true) {
+            int resultado = inserirEm(tabela, registro, novo);
+            if (resultado == INSERIDO) {
+                if (novo) {
+                    tamanho.increment();
+                }
+                if (tabela.ocupadas.incrementAndGet() > tabela.limite) {
+                    iniciarRedimensionamento(tabela);
+                }
+                return;
+            }
+            if (resultado == EXISTENTE) {
+                // Cópia migrada de uma chave que já tinha sido reinserida na tabela nova: contada duas vezes
+                if (!novo) {
+                    tamanho.decrement();
+                }
+                return;
+            }
+            tabela = aguardarProxima(tabela);
+        }
+    }
+
+    private int inserirEm(Tabela tabela, Registro registro, boolean contarColisoes) {
+        int capacidade = tabela.posicoes.length;
+        int indice = funcaoHash(registro.getCodigo(), capacidade);
+
+        for (int tentativas = 0; tentativas < capacidade; tentativas++) {
+            Registro atualNaPosicao = ler(tabela, indice);
+            if (atualNaPosicao == null) {
+                if (POSICOES.compareAndSet(tabela.posicoes, indice, null, registro)) {
+                    return INSERIDO;
+                }
+                atualNaPosicao = ler(tabela, indice);
+            }
+            if (atualNaPosicao == MOVIDO) {
+                return ENCAMINHADO;
+            }
+            if (atualNaPosicao.equals(registro)) {
+                return EXISTENTE;
+            }
+            if (contarColisoes) {
+                colisoes.increment();
+            }
+            indice = indice + 1 == capacidade ? 0 : indice + 1;
+        }
+        // Tabela cheia: também obriga a seguir para a próxima
+        return ENCAMINHADO;
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        Tabela tabela = atual;
+        while (tabela != null) {
+            int capacidade = tabela.posicoes.length;
+            int indice = funcaoHash(registro.getCodigo(), capacidade);
+
+            for (int tentativas = 0; tentativas < capacidade; tentativas++) {
+                Registro atualNaPosicao = ler(tabela, indice);
+                if (atualNaPosicao == null) {
+                    return false;
+                }
+                if (atualNaPosicao == MOVIDO) {
+                    break;
+                }
+                if (atualNaPosicao.equals(registro)) {
+                    return true;
+                }
+                indice = indice + 1 == capacidade ? 0 : indice + 1;
+            }
+            // Leitores não migram nada: apenas seguem para a tabela nova
+            tabela = tabela.proxima.get();
+        }
+        return false;
+    }
+
+    private void iniciarRedimensionamento(Tabela tabela) {
+        if (tabela.proxima.get() == null
+                && tabela.proxima.compareAndSet(null, new Tabela(tabela.posicoes.length * 2))) {
+            redimensionamentos.incrementAndGet();
+        }
+    }
+
+    private Tabela aguardarProxima(Tabela tabela) {
+        iniciarRedimensionamento(tabela);
+        return tabela.proxima.get();
+    }
+
+    private void ajudarMigracao(Tabela tabela) {
+        int capacidade = tabela.posicoes.length;
+        int inicio = tabela.proximoPasso.getAndAdd(PASSO_MIGRACAO);
+        if (inicio >= capacidade) {
+            return;
+        }
+
+        Tabela proxima = tabela.proxima.get();
+        int fim = Math.min(capacidade, inicio + PASSO_MIGRACAO);
+        for (int indice = inicio; indice < fim; indice++) {
+            migrarPosicao(tabela, proxima, indice);
+        }
+
+        if (tabela.migradas.addAndGet(fim - inicio) == capacidade) {
+            avancarAtual();
+        }
+    }
+
+    // A tabela nova vira ponto de entrada assim que a anterior termina de migrar
+    // (migrações podem terminar fora de ordem, então avança quantas estiverem prontas)
+    private void avancarAtual() {
+        Tabela tabela = atual;
+        Tabela proxima;
+        while ((proxima = tabela.proxima.get()) != null && tabela.migradas.get() == tabela.posicoes.length) {
+            ATUAL.compareAndSet(this, tabela, proxima);
+            tabela = atual;
+        }
+    }
+
+    private void migrarPosicao(Tabela tabela, Tabela proxima, int indice) {
+        while (true) {
+            Registro registro = ler(tabela, indice);
+            if (registro == null) {
+                if (POSICOES.compareAndSet(tabela.posicoes, indice, null, MOVIDO)) {
+                    return;
+                }
+                continue;
+            }
+            // Copia antes de marcar: quem ainda vê o registro aqui o encontra, quem vê MOVIDO o encontra lá
+            inserirAPartirDe(proxima, registro, false);
+            POSICOES.setRelease(tabela.posicoes, indice, MOVIDO);
+            return;
+        }
+    }
+
+    // Termina as migrações pendentes; usado só pelas estatísticas, depois das operações
+    private Tabela tabelaEstavel() {
+        Tabela tabela = atual;
+        Tabela proxima;
+        while ((proxima = tabela.proxima.get()) != null) {
+            while (tabela.proximoPasso.get() < tabela.posicoes.length) {
+                ajudarMigracao(tabela);
+            }
+            while (tabela.migradas.get() < tabela.posicoes.length) {
+                Thread.onSpinWait();
+            }
+            tabela = proxima;
+        }
+        return tabela;
+    }
+
+    public int getRedimensionamentos() {
+        return redimensionamentos.get();
+    }
+
+    @Override
+    public boolean isConcorrente() {
+        return true;
+    }
+
+    @Override
+    public int getColisoes() {
+        return (int) colisoes.sum();
+    }
+
+    @Override
+    public int getTamanho() {
+        return (int) tamanho.sum();
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho.sum() / atual.posicoes.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        Tabela tabela = tabelaEstavel();
+        System.out.println("** Estatísticas Linear Probing Concorrente (redimensionável) **");
+        System.out.println("Capacidade atual: " + tabela.posicoes.length);
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+        System.out.println("Redimensionamentos: " + redimensionamentos.get());
+
+        int[] gaps = getGaps();
+        if (getTamanho() > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int[] getGaps() {
+        Tabela tabela = tabelaEstavel();
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < tabela.posicoes.length; i++) {
+            Registro registro = ler(tabela, i);
+            if (registro != null && registro != MOVIDO) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
@@ -0,0 +1,272 @@
+import java.util.*;
+
+public class CuckooHashTable implements HashTable {
+    // 4 posições int por balde: 16 bytes, quatro baldes por linha de cache de 64 bytes
+    private static final int POSICOES_POR_BALDE = 4;
+    private static final int VAZIO = -1;
+    private static final int MAX_DESLOCAMENTOS = 500;
+    private static final int TAMANHO_STASH = 8;
+    private static final double FATOR_MAXIMO = 0.95;
+
+    private int[] baldes;
+    private int numBaldes;
+    private int[] stash;
+    private int tamanhoStash;
+    private long semente;
+    private long estadoAleatorio;
+    private int colisoes;
+    private int tamanho;
+    private int rehashes;
+    // null = as duas multiplicações originais; com uma FuncaoHash, as duas funções são ela aplicada
+    // à chave misturada com metades diferentes da semente (trocar a semente troca as duas)
+    private final FuncaoHash estrategia;
+
+    public CuckooHashTable(int capacidade) {
+        this(capacidade, null);
+    }
+
+    public CuckooHashTable(int capacidade, FuncaoHash estrategia) {
+        this.numBaldes = Math.max(1, (capacidade + POSICOES_POR_BALDE - 1) / POSICOES_POR_BALDE);
+        this.baldes = new int[numBaldes * POSICOES_POR_BALDE];
+        this.stash = new int[TAMANHO_STASH];
+        this.tamanhoStash = 0;
+        this.semente = 0x2545F4914F6CDD1DL;
+        this.estadoAleatorio = 12345;
+        this.colisoes = 0;
+        this.tamanho = 0;
+        this.rehashes = 0;
+        this.estrategia = estrategia;
+        Arrays.fill(baldes, VAZIO);
+    }
+
+    private int hash1(int codigo) {
+        if (estrategia != null) {
+            return estrategia.indice(codigo ^ (int) semente, numBaldes);
+        }
+        long hash = (codigo ^ semente) * 0x9E3779B97F4A7C15L;
+        return (int) ((hash >>> 33) % numBaldes);
+    }
+
+    private int hash2(int codigo) {
+        if (estrategia != null) {
+            return estrategia.indice(codigo ^ (int) (semente >>> 32), numBaldes);
+        }
+        long hash = (codigo + semente) * 0xC2B2AE3D27D4EB4FL;
+        hash ^= hash >>> 29;
+        return (int) ((hash >>> 33) % numBaldes);
+    }
+
+    private int proximoAleatorio(int limite) {
+        // xorshift: escolhe a vítima do deslocamento de forma determinística
+        estadoAleatorio ^= estadoAleatorio << 13;
+        estadoAleatorio ^= estadoAleatorio >>> 7;
+        estadoAleatorio ^= estadoAleatorio << 17;
+        return (int) ((estadoAleatorio >>> 33) % limite);
+    }
+
+    private boolean contemNoBalde(int balde, int codigo) {
+        int inicio = balde * POSICOES_POR_BALDE;
+        for (int i = inicio; i < inicio + POSICOES_POR_BALDE; i++) {
+            if (baldes[i] == codigo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean colocarNoBalde(int balde, int codigo) {
+        int inicio = balde * POSICOES_POR_BALDE;
+        for (int i = inicio; i < inicio + POSICOES_POR_BALDE; i++) {
+            if (baldes[i] == VAZIO) {
+                baldes[i] = codigo;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        inserir(registro.getCodigoNumerico());
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        return buscar(registro.getCodigoNumerico());
+    }
+
+    @Override
+    public void inserir(int codigo) {
+        // VAZIO é -1: um código negativo ocuparia a posição como se ela estivesse livre
+        if (codigo < 0 || codigo > 999999999) throw new IllegalArgumentException("Código deve ter 9 dígitos");
+        if (buscar(codigo)) {
+            return;
+        }
+
+        if (tamanho + 1 > FATOR_MAXIMO * baldes.length) {
+            rehash(codigo, true);
+        } else {
+            int pendente = inserirSemRehash(codigo);
+            if (pendente != VAZIO) {
+                if (tamanhoStash < TAMANHO_STASH) {
+                    stash[tamanhoStash++] = pendente;
+                } else {
+                    rehash(pendente, false);
+                }
+            }
+        }
+        tamanho++;
+    }
+
+    // Retorna VAZIO se conseguiu inserir, ou o código que ficou sem lugar após MAX_DESLOCAMENTOS
+    private int inserirSemRehash(int codigo) {
+        int balde = hash1(codigo);
+        if (colocarNoBalde(balde, codigo) || colocarNoBalde(hash2(codigo), codigo)) {
+            return VAZIO;
+        }
+
+        int atual = codigo;
+        for (int deslocamentos = 0; deslocamentos < MAX_DESLOCAMENTOS; deslocamentos++) {
+            colisoes++;
+            int posicao = balde * POSICOES_POR_BALDE + proximoAleatorio(POSICOES_POR_BALDE);
+            int vitima = baldes[posicao];
+            baldes[posicao] = atual;
+            atual = vitima;
+
+            int h1 = hash1(atual);
+            balde = (h1 == balde) ? hash2(atual) : h1;
+            if (colocarNoBalde(balde, atual)) {
+                return VAZIO;
+            }
+        }
+        return atual;
+    }
+
+    private void rehash(int pendente, boolean crescer) {
+        int[] todos = new int[tamanho + 1];
+        int n = 0;
+        for (int codigo : baldes) {
+            if (codigo != VAZIO) {
+                todos[n++] = codigo;
+            }
+        }
+        for (int i = 0; i < tamanhoStash; i++) {
+            todos[n++] = stash[i];
+        }
+        todos[n++] = pendente;
+
+        int tentativas = 0;
+        while (true) {
+            rehashes++;
+            tentativas++;
+            // Troca as funções hash; se não resolver em poucas tentativas, dobra a tabela
+            if (crescer || tentativas % 4 == 0) {
+                numBaldes *= 2;
+                crescer = false;
+            }
+            semente = semente * 6364136223846793005L + 1442695040888963407L;
+            baldes = new int[numBaldes * POSICOES_POR_BALDE];
+            Arrays.fill(baldes, VAZIO);
+            tamanhoStash = 0;
+
+            boolean sucesso = true;
+            for (int i = 0; i < n && sucesso; i++) {
+                int sobra = inserirSemRehash(todos[i]);
+                if (sobra != VAZIO) {
+                    if (tamanhoStash < TAMANHO_STASH) {
+                        stash[tamanhoStash++] = sobra;
+                    } else {
+                        sucesso = false;
+                    }
+                }
+            }
+            if (sucesso) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean buscar(int codigo) {
+        // No máximo dois baldes (duas linhas de cache) mais o stash, que é minúsculo
+        if (contemNoBalde(hash1(codigo), codigo) || contemNoBalde(hash2(codigo), codigo)) {
+            return true;
+        }
+        for (int i = 0; i < tamanhoStash; i++) {
+            if (stash[i] == codigo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getRehashes() {
+        return rehashes;
+    }
+
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+
+    @Override
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho / baldes.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        System.out.println("** Estatísticas Cuckoo **");
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+        System.out.println("Baldes: " + numBaldes + " x " + POSICOES_POR_BALDE + " posições");
+        System.out.println("Elementos no stash: " + tamanhoStash);
+        System.out.println("Rehashes: " + rehashes);
+
+        int[] ocupacao = new int[POSICOES_POR_BALDE + 1];
+        for (int b = 0; b < numBaldes; b++) {
+            int ocupados = 0;
+            for (int i = b * POSICOES_POR_BALDE; i < (b + 1) * POSICOES_POR_BALDE; i++) {
+                if (baldes[i] != VAZIO) {
+                    ocupados++;
+                }
+            }
+            ocupacao[ocupados]++;
+        }
+        for (int i = 0; i <= POSICOES_POR_BALDE; i++) {
+            System.out.println("  Baldes com " + i + " elementos: " + ocupacao[i]);
+        }
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < baldes.length; i++) {
+            if (baldes[i] != VAZIO) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
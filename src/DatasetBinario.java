@@ -0,0 +1,164 @@
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Formato binário dos datasets (tudo little-endian):
+//   0  int   mágico "PJBL"
+//   4  int   versão
+//   8  long  quantidade de códigos
+//   16 long  seed usada na geração
+//   24 int[] códigos
+//   fim int  CRC32C de todos os bytes anteriores
+// 4 bytes por código contra 10 no texto (9 dígitos + quebra de linha)
+public class DatasetBinario {
+    private static final int MAGICO = 'P' | 'J' << 8 | 'B' << 16 | 'L' << 24;
+    private static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 24;
+    static final int TAMANHO_CRC = 4;
+    // Blocos de escrita e de cálculo do CRC (ByteBuffer é limitado a 2 GB)
+    private static final int BLOCO = 1 << 20;
+    private static final ValueLayout.OfInt INT_LE =
+            ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG_LE =
+            ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    public record Cabecalho(int versao, long quantidade, long semente) {
+    }
+
+    private DatasetBinario() {
+    }
+
+    public static void escrever(String arquivo, int[] codigos, long semente) throws IOException {
+        try (FileChannel canal = FileChannel.open(Path.of(arquivo), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32C crc = new CRC32C();
+            ByteBuffer buffer = ByteBuffer.allocate(BLOCO).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.put(cabecalho(codigos.length, semente));
+            for (int codigo : codigos) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    escreverBloco(canal, buffer, crc);
+                }
+                buffer.putInt(codigo);
+            }
+            escreverBloco(canal, buffer, crc);
+
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        }
+    }
+
+    // Para quem escreve o arquivo por partes (GeradorDados): cabeçalho na posição 0, códigos
+    // a partir de TAMANHO_CABECALHO e, por último, anexarCrc
+    static ByteBuffer cabecalho(long quantidade, long semente) {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+        cabecalho.putInt(MAGICO).putInt(VERSAO).putLong(quantidade).putLong(semente);
+        return cabecalho.flip();
+    }
+
+    static void anexarCrc(FileChannel canal) throws IOException {
+        long tamanho = canal.size();
+        CRC32C crc = new CRC32C();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment dados = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho, arena);
+            for (long inicio = 0; inicio < tamanho; inicio += BLOCO) {
+                crc.update(dados.asSlice(inicio, Math.min(BLOCO, tamanho - inicio)).asByteBuffer());
+            }
+        }
+        ByteBuffer valor = ByteBuffer.allocate(TAMANHO_CRC).order(ByteOrder.LITTLE_ENDIAN);
+        valor.putInt((int) crc.getValue()).flip();
+        while (valor.hasRemaining()) {
+            canal.write(valor, tamanho + valor.position());
+        }
+    }
+
+    private static void escreverBloco(FileChannel canal, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public static Cabecalho lerCabecalho(String arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(Path.of(arquivo), StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            return validarCabecalho(arquivo, canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size(), arena));
+        }
+    }
+
+    // Mapeia o arquivo, confere mágico, versão, tamanho e CRC e copia os códigos num único bloco
+    public static int[] ler(String arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(Path.of(arquivo), StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment dados = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size(), arena);
+            Cabecalho cabecalho = validarCabecalho(arquivo, dados);
+
+            long fimCodigos = dados.byteSize() - TAMANHO_CRC;
+            CRC32C crc = new CRC32C();
+            for (long inicio = 0; inicio < fimCodigos; inicio += BLOCO) {
+                crc.update(dados.asSlice(inicio, Math.min(BLOCO, fimCodigos - inicio)).asByteBuffer());
+            }
+            if ((int) crc.getValue() != dados.get(INT_LE, fimCodigos)) {
+                throw new IOException(arquivo + ": CRC32C não confere (arquivo corrompido)");
+            }
+
+            int[] codigos = new int[(int) cabecalho.quantidade()];
+            MemorySegment.copy(dados, INT_LE, TAMANHO_CABECALHO, codigos, 0, codigos.length);
+            return codigos;
+        }
+    }
+
+    static Cabecalho validarCabecalho(String arquivo, MemorySegment dados) throws IOException {
+        if (dados.byteSize() < TAMANHO_CABECALHO + TAMANHO_CRC || dados.get(INT_LE, 0) != MAGICO) {
+            throw new IOException(arquivo + ": não é um dataset binário");
+        }
+        int versao = dados.get(INT_LE, 4);
+        if (versao != VERSAO) {
+            throw new IOException(arquivo + ": versão " + versao + " não suportada");
+        }
+        long quantidade = dados.get(LONG_LE, 8);
+        if (quantidade < 0 || quantidade > Integer.MAX_VALUE
+                || dados.byteSize() != TAMANHO_CABECALHO + quantidade * Integer.BYTES + TAMANHO_CRC) {
+            throw new IOException(arquivo + ": tamanho não corresponde a " + quantidade + " códigos");
+        }
+        return new Cabecalho(versao, quantidade, dados.get(LONG_LE, 16));
+    }
+
+    public static void importarTexto(String arquivoTexto, String arquivoBinario, long semente) throws IOException {
+        escrever(arquivoBinario, CarregadorDados.carregar(arquivoTexto), semente);
+    }
+
+    // Uma linha "%09d" por código, como o gerador original escrevia
+    public static void exportarTexto(String arquivoBinario, String arquivoTexto) throws IOException {
+        exportarTexto(ler(arquivoBinario), arquivoTexto);
+    }
+
+    public static void exportarTexto(int[] codigos, String arquivoTexto) throws IOException {
+        byte[] linha = new byte[10];
+        linha[9] = '\n';
+        try (OutputStream saida = new BufferedOutputStream(new FileOutputStream(arquivoTexto), BLOCO)) {
+            for (int codigo : codigos) {
+                for (int i = 8; i >= 0; i--) {
+                    linha[i] = (byte) ('0' + codigo % 10);
+                    codigo /= 10;
+                }
+                saida.write(linha);
+            }
+        }
+    }
+}
@@ -1,82 +1,174 @@
+import java.util.*;
+
 public class DoubleHashingHashTable implements HashTable {
+    private static final int INSERIDO = 1;
+    private static final int EXISTENTE = 0;
+    private static final int SEM_ESPACO = -1;
+    // Posições da tabela antiga migradas a cada operação durante o crescimento
+    private static final int MIGRACOES_POR_OPERACAO = 4;
+
     private Registro[] tabela;
     private int colisoes;
     private int tamanho;
 
+    // Crescimento incremental (estilo Redis): 0 = capacidade fixa
+    private double fatorCargaMaximo;
+    private Registro[] antiga;
+    private int proximaMigracao;
+
     public DoubleHashingHashTable(int capacidade) {
-        this.tabela = new Registro[capacidade];
+        this(capacidade, 0);
+    }
+
+    public DoubleHashingHashTable(int capacidade, double fatorCargaMaximo) {
+        if (fatorCargaMaximo < 0 || fatorCargaMaximo >= 1) {
+            throw new IllegalArgumentException("Fator de carga máximo deve estar em [0, 1)");
+        }
+        // Com crescimento a capacidade vira potência de 2 (e continua sendo ao dobrar): assim a
+        // sondagem visita todas as posições e a migração sempre acha lugar na tabela nova
+        this.tabela = new Registro[fatorCargaMaximo > 0 ? potenciaDeDois(capacidade) : capacidade];
         this.colisoes = 0;
         this.tamanho = 0;
+        this.fatorCargaMaximo = fatorCargaMaximo;
+    }
+
+    private static int potenciaDeDois(int capacidade) {
+        return capacidade <= 2 ? 2 : Integer.highestOneBit(capacidade - 1) << 1;
     }
 
-    private int hash1(String codigo) {
+    private int hash1(String codigo, int capacidade) {
         // Primeira função hash: método da divisão simples
         int hash = 0;
         for (int i = 0; i < codigo.length(); i++) {
             hash = (hash + (codigo.charAt(i) - '0')) & 0x7FFFFFFF;
         }
-        return hash % tabela.length;
+        return hash % capacidade;
     }
 
-    private int hash2(String codigo) {
+    private int hash2(String codigo, int capacidade) {
         // Segunda função hash: importante que seja diferente e não dê 0
         // Usando um primo menor que o tamanho da tabela
         int hash = 1;
         for (int i = 0; i < codigo.length(); i++) {
             hash = (hash * 7 + (codigo.charAt(i) - '0')) & 0x7FFFFFFF;
         }
-        int step = 1 + (hash % (tabela.length - 1));
+        int step = 1 + (hash % (capacidade - 1));
+        // Com m potência de 2 um passo ímpar é primo com m e a sondagem visita todas as posições
+        if ((capacidade & (capacidade - 1)) == 0) {
+            step |= 1;
+        }
         return step;
     }
 
     @Override
     public void inserir(Registro registro) {
-        int h1 = hash1(registro.getCodigo());
-        int h2 = hash2(registro.getCodigo());
+        if (antiga != null) {
+            migrarPasso();
+            // Ainda não migrado: já está contado em tamanho
+            if (antiga != null && contem(antiga, registro)) {
+                return;
+            }
+        }
+
+        int resultado = inserirEm(tabela, registro, true);
+        while (resultado == SEM_ESPACO && fatorCargaMaximo > 0) {
+            concluirMigracao();
+            iniciarCrescimento();
+            resultado = inserirEm(tabela, registro, true);
+        }
+
+        if (resultado == INSERIDO) {
+            tamanho++;
+            if (fatorCargaMaximo > 0 && antiga == null && tamanho > fatorCargaMaximo * tabela.length) {
+                iniciarCrescimento();
+            }
+        }
+    }
+
+    private int inserirEm(Registro[] alvo, Registro registro, boolean contarColisoes) {
+        int h1 = hash1(registro.getCodigo(), alvo.length);
+        int h2 = hash2(registro.getCodigo(), alvo.length);
         int indice = h1;
         int tentativas = 0;
 
-        while (tabela[indice] != null && tentativas < tabela.length) {
-            if (tabela[indice].equals(registro)) {
-                return;
+        while (alvo[indice] != null && tentativas < alvo.length) {
+            if (alvo[indice].equals(registro)) {
+                return EXISTENTE;
+            }
+            if (contarColisoes) {
+                colisoes++;
             }
-            colisoes++;
             tentativas++;
-            indice = (h1 + tentativas * h2) % tabela.length;
+            indice = (h1 + tentativas * h2) % alvo.length;
             if (indice < 0) {
-                indice += tabela.length;
+                indice += alvo.length;
             }
-            indice = indice % tabela.length;
+            indice = indice % alvo.length;
         }
 
-        if (tentativas < tabela.length) {
-            tabela[indice] = registro;
-            tamanho++;
+        if (tentativas < alvo.length) {
+            alvo[indice] = registro;
+            return INSERIDO;
         }
+        return SEM_ESPACO;
     }
 
     @Override
     public boolean buscar(Registro registro) {
-        int h1 = hash1(registro.getCodigo());
-        int h2 = hash2(registro.getCodigo());
+        if (antiga != null) {
+            migrarPasso();
+        }
+        return contem(tabela, registro) || (antiga != null && contem(antiga, registro));
+    }
+
+    private boolean contem(Registro[] alvo, Registro registro) {
+        int h1 = hash1(registro.getCodigo(), alvo.length);
+        int h2 = hash2(registro.getCodigo(), alvo.length);
         int indice = h1;
         int tentativas = 0;
 
-        while (tabela[indice] != null && tentativas < tabela.length) {
-            if (tabela[indice].equals(registro)) {
+        while (alvo[indice] != null && tentativas < alvo.length) {
+            if (alvo[indice].equals(registro)) {
                 return true;
             }
             tentativas++;
-            indice = (h1 + tentativas * h2) % tabela.length;
+            indice = (h1 + tentativas * h2) % alvo.length;
             if (indice < 0) {
-                indice += tabela.length;
+                indice += alvo.length;
             }
-            indice = indice % tabela.length;
+            indice = indice % alvo.length;
         }
 
         return false;
     }
 
+    private void iniciarCrescimento() {
+        // A antiga fica só para leitura; nenhuma operação paga a cópia inteira de uma vez
+        antiga = tabela;
+        tabela = new Registro[antiga.length * 2];
+        proximaMigracao = 0;
+    }
+
+    private void migrarPasso() {
+        for (int i = 0; i < MIGRACOES_POR_OPERACAO && proximaMigracao < antiga.length; i++) {
+            Registro registro = antiga[proximaMigracao];
+            // Tabela nova com o dobro de posições e sondagem que passa por todas: sempre cabe
+            if (registro != null) {
+                inserirEm(tabela, registro, false);
+            }
+            proximaMigracao++;
+        }
+        if (proximaMigracao == antiga.length) {
+            antiga = null;
+        }
+    }
+
+    private void concluirMigracao() {
+        while (antiga != null) {
+            migrarPasso();
+        }
+    }
+
     @Override
     public int getColisoes() {
         return colisoes;
@@ -94,6 +186,7 @@ public class DoubleHashingHashTable implements HashTable {
 
     @Override
     public void estatisticas() {
+        concluirMigracao();
         System.out.println("** Estatísticas Double Hashing **");
         System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
 
@@ -128,6 +221,7 @@ public class DoubleHashingHashTable implements HashTable {
     
     @Override
     public int[] getGaps() {
+        concluirMigracao();
         int menorGap = Integer.MAX_VALUE;
         int maiorGap = 0;
         long somaGaps = 0;
@@ -0,0 +1,55 @@
+import java.util.SplittableRandom;
+
+// Estratégia de hash sobre o código inteiro (Registro.getCodigoNumerico), para as tabelas que
+// aceitam a função no construtor. Custa uma ou duas multiplicações, contra o laço de 9
+// iterações sobre os caracteres das funções fixas de cada tabela
+public interface FuncaoHash {
+    long hash64(int chave);
+
+    // Índice em [0, capacidade). Usa os bits a partir do 33, que são os bem misturados também na
+    // multiplicação de Fibonacci; com capacidade potência de 2 o % vira máscara, com o mesmo resultado
+    default int indice(int chave, int capacidade) {
+        long hash = hash64(chave) >>> 33;
+        if ((capacidade & (capacidade - 1)) == 0) {
+            return (int) hash & (capacidade - 1);
+        }
+        return (int) (hash % capacidade);
+    }
+
+    // Multiplicação de Fibonacci (multiply-shift): só os bits altos do produto são bons
+    FuncaoHash FIBONACCI = chave -> chave * 0x9E3779B97F4A7C15L;
+
+    // fmix64 do MurmurHash3: todos os bits dependem de todos os bits da chave
+    FuncaoHash MURMUR3 = chave -> {
+        long hash = chave;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    };
+
+    // Mistura do wyhash: produto 64x64 -> 128 bits e xor das duas metades
+    FuncaoHash WYHASH = chave -> {
+        long a = chave ^ 0xA0761D6478BD642FL;
+        long b = 0xE7037ED1A0B428DBL;
+        return a * b ^ Math.unsignedMultiplyHigh(a, b);
+    };
+
+    // Tabulação: um valor aleatório por byte da chave, combinados com xor. 4 tabelas de 256
+    // longs (8 KB, cabem no L1) e independência 3-a-3, sem nenhuma multiplicação
+    static FuncaoHash tabulacao(long semente) {
+        SplittableRandom gerador = new SplittableRandom(semente);
+        long[][] tabelas = new long[4][256];
+        for (long[] tabela : tabelas) {
+            for (int i = 0; i < tabela.length; i++) {
+                tabela[i] = gerador.nextLong();
+            }
+        }
+        return chave -> tabelas[0][chave & 0xFF]
+                ^ tabelas[1][(chave >>> 8) & 0xFF]
+                ^ tabelas[2][(chave >>> 16) & 0xFF]
+                ^ tabelas[3][chave >>> 24];
+    }
+}
@@ -0,0 +1,85 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Gera o dataset em blocos de tamanho fixo, em paralelo. Cada bloco tem seu próprio
+// SplittableRandom, obtido por split() em sequência a partir da seed: o bloco k recebe sempre
+// o mesmo gerador, então o arquivo é idêntico com qualquer número de threads
+public class GeradorDados {
+    private static final int REGISTROS_POR_BLOCO = 1 << 16;
+    private static final int LIMITE_CODIGO = 1000000000;
+    // Linha de texto de tamanho fixo: 9 dígitos + '\n'
+    private static final int BYTES_POR_LINHA = 10;
+
+    private GeradorDados() {
+    }
+
+    // Escreve base + ".bin" (formato do DatasetBinario) e base + ".txt" (um código por linha)
+    public static void gerar(String base, int quantidade, long semente) throws IOException {
+        int blocos = (quantidade + REGISTROS_POR_BLOCO - 1) / REGISTROS_POR_BLOCO;
+        SplittableRandom raiz = new SplittableRandom(semente);
+        SplittableRandom[] geradores = new SplittableRandom[blocos];
+        for (int b = 0; b < blocos; b++) {
+            geradores[b] = raiz.split();
+        }
+
+        try (FileChannel binario = abrir(base + ".bin");
+             FileChannel texto = abrir(base + ".txt")) {
+            escreverEm(binario, DatasetBinario.cabecalho(quantidade, semente), 0);
+
+            // Cada bloco vai para regiões fixas dos dois arquivos, então a ordem em que
+            // as threads terminam não importa
+            try {
+                IntStream.range(0, blocos).parallel().forEach(b -> {
+                    int inicio = b * REGISTROS_POR_BLOCO;
+                    int tamanhoBloco = Math.min(REGISTROS_POR_BLOCO, quantidade - inicio);
+                    ByteBuffer codigos = ByteBuffer.allocate(tamanhoBloco * Integer.BYTES)
+                            .order(ByteOrder.LITTLE_ENDIAN);
+                    byte[] linhas = new byte[tamanhoBloco * BYTES_POR_LINHA];
+
+                    SplittableRandom gerador = geradores[b];
+                    for (int i = 0; i < tamanhoBloco; i++) {
+                        int codigo = gerador.nextInt(LIMITE_CODIGO);
+                        codigos.putInt(codigo);
+                        int fimLinha = i * BYTES_POR_LINHA + 9;
+                        linhas[fimLinha] = '\n';
+                        for (int d = fimLinha - 1; d >= fimLinha - 9; d--) {
+                            linhas[d] = (byte) ('0' + codigo % 10);
+                            codigo /= 10;
+                        }
+                    }
+
+                    try {
+                        escreverEm(binario, codigos.flip(),
+                                DatasetBinario.TAMANHO_CABECALHO + (long) inicio * Integer.BYTES);
+                        escreverEm(texto, ByteBuffer.wrap(linhas), (long) inicio * BYTES_POR_LINHA);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            DatasetBinario.anexarCrc(binario);
+        }
+    }
+
+    private static FileChannel abrir(String arquivo) throws IOException {
+        return FileChannel.open(Path.of(arquivo), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    // Escrita posicional: não mexe na posição do canal, pode ser feita por várias threads ao mesmo tempo
+    private static void escreverEm(FileChannel canal, ByteBuffer buffer, long posicao) throws IOException {
+        while (buffer.hasRemaining()) {
+            posicao += canal.write(buffer, posicao);
+        }
+    }
+}
@@ -7,7 +7,47 @@ public interface HashTable {
     int getTamanho();
     void estatisticas();
     double getFatorCarga();
-    
+
+    // Só tabelas que aceitam inserir/buscar de várias threads ao mesmo tempo devolvem true
+    default boolean isConcorrente() { return false; }
+
+    // Sobrecargas para chaves primitivas (códigos de 9 dígitos cabem em int)
+    default void inserir(int codigo) { inserir(new Registro(codigo)); }
+    default boolean buscar(int codigo) { return buscar(new Registro(codigo)); }
+
+    // Busca em lote: ao final, resultado.get(i) diz se chaves[i] está na tabela.
+    // Tabelas de endereçamento aberto sobrescrevem para intercalar as sondagens de várias chaves
+    default void buscarLote(Registro[] chaves, BitSet resultado) {
+        for (int i = 0; i < chaves.length; i++) {
+            resultado.set(i, buscar(chaves[i]));
+        }
+    }
+
+    default void buscarLote(int[] codigos, BitSet resultado) {
+        for (int i = 0; i < codigos.length; i++) {
+            resultado.set(i, buscar(codigos[i]));
+        }
+    }
+
+    // Inserção em lote; tabelas que sabem ordenar o lote pela posição de destino sobrescrevem
+    default void inserirLote(Registro[] registros) {
+        for (Registro registro : registros) {
+            inserir(registro);
+        }
+    }
+
+    default void inserirLote(int[] codigos) {
+        for (int codigo : codigos) {
+            inserir(codigo);
+        }
+    }
+
+    // Carga em massa de uma tabela vazia; por padrão é só a inserção em lote,
+    // tabelas que sabem dividir o trabalho entre threads sobrescrevem
+    default void construirEmParalelo(List<Registro> registros) {
+        inserirLote(registros.toArray(new Registro[0]));
+    }
+
     // Métodos para extrair estatísticas detalhadas
     default int getMaiorLista() { return 0; }
     default List<Integer> getTresMaioresListas() { return new ArrayList<>(); }
@@ -0,0 +1,6 @@
+// Tabelas que sabem remover sem quebrar a sondagem (backward shift, vizinhança, listas,
+// DELETED por CAS). As demais nem oferecem o método, em vez de falhar só em tempo de execução
+public interface HashTableComRemocao extends HashTable {
+    // true se a chave estava na tabela e foi removida
+    boolean remover(Registro registro);
+}
@@ -0,0 +1,290 @@
+import java.util.*;
+
+public class HopscotchHashTable implements HashTableComRemocao {
+    // Tamanho da vizinhança: cada posição de origem tem um bitmap de 32 bits
+    private static final int H = 32;
+    // Com H = 32 a primeira vizinhança saturada aparece por volta de 0.8-0.9 de carga: até
+    // FATOR_MAXIMO essas chaves vão para a área de transbordo e a tabela só dobra depois disso
+    private static final double FATOR_MAXIMO = 0.95;
+    // Transbordo maior que isso indica hash ruim: dobrar sai mais barato que buscar no HashSet
+    private static final int TRANSBORDO_POR_POSICAO = 64;
+
+    private Registro[] tabela;
+    // Bit d de hopInfo[i] ligado = elemento com origem i está em i + d
+    private int[] hopInfo;
+    private int vizinhanca;
+    private int colisoes;
+    private int tamanho;
+    private int deslocamentos;
+    private int crescimentos;
+    // Chaves cuja vizinhança estava saturada; o bit da origem avisa a busca para olhar aqui
+    private Set<Registro> transbordo;
+    private BitSet origensComTransbordo;
+    // null = Knuth sobre os dígitos (função original)
+    private final FuncaoHash estrategia;
+
+    public HopscotchHashTable(int capacidade) {
+        this(capacidade, null);
+    }
+
+    public HopscotchHashTable(int capacidade, FuncaoHash estrategia) {
+        this.tabela = new Registro[capacidade];
+        this.hopInfo = new int[capacidade];
+        this.vizinhanca = Math.min(H, capacidade);
+        this.colisoes = 0;
+        this.tamanho = 0;
+        this.deslocamentos = 0;
+        this.crescimentos = 0;
+        this.transbordo = new HashSet<>();
+        this.origensComTransbordo = new BitSet(capacidade);
+        this.estrategia = estrategia;
+    }
+
+    private int funcaoHash(Registro registro) {
+        if (estrategia != null) {
+            return estrategia.indice(registro.getCodigoNumerico(), tabela.length);
+        }
+        // Mesma função multiplicativa de Knuth do Linear Probing
+        String codigo = registro.getCodigo();
+        long hash = 0;
+        long A = 2654435761L;
+        for (int i = 0; i < codigo.length(); i++) {
+            hash = hash * A + (codigo.charAt(i) - '0');
+        }
+        return (int)((hash & 0x7FFFFFFF) % tabela.length);
+    }
+
+    private int posicao(int origem, int distancia) {
+        return (origem + distancia) % tabela.length;
+    }
+
+    private int distancia(int origem, int indice) {
+        int d = indice - origem;
+        return d < 0 ? d + tabela.length : d;
+    }
+
+    private int localizar(Registro registro, int origem) {
+        int bits = hopInfo[origem];
+        while (bits != 0) {
+            int d = Integer.numberOfTrailingZeros(bits);
+            int indice = posicao(origem, d);
+            if (tabela[indice].equals(registro)) {
+                return indice;
+            }
+            bits &= bits - 1;
+        }
+        return -1;
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        int origem = funcaoHash(registro);
+        if (localizar(registro, origem) != -1) {
+            return;
+        }
+
+        if (origensComTransbordo.get(origem) && transbordo.contains(registro)) {
+            return;
+        }
+
+        if (tamanho + 1 > FATOR_MAXIMO * tabela.length) {
+            crescer();
+            origem = funcaoHash(registro);
+        }
+        if (!colocar(registro, origem)) {
+            if (transbordo.size() < tabela.length / TRANSBORDO_POR_POSICAO) {
+                transbordo.add(registro);
+                origensComTransbordo.set(origem);
+            } else {
+                // Vizinhança saturada e transbordo cheio: dobra a tabela, como no hopscotch original
+                crescer();
+                colocarOuTransbordar(registro);
+            }
+        }
+        tamanho++;
+    }
+
+    private void colocarOuTransbordar(Registro registro) {
+        int origem = funcaoHash(registro);
+        if (!colocar(registro, origem)) {
+            transbordo.add(registro);
+            origensComTransbordo.set(origem);
+        }
+    }
+
+    private boolean colocar(Registro registro, int origem) {
+        // Sondagem linear até a primeira posição livre
+        int livre = origem;
+        int tentativas = 0;
+        while (tabela[livre] != null && tentativas < tabela.length) {
+            colisoes++;
+            livre = posicao(livre, 1);
+            tentativas++;
+        }
+        if (tentativas == tabela.length) {
+            return false;
+        }
+
+        // Enquanto a posição livre estiver fora da vizinhança, troca-a com um
+        // elemento mais antigo cuja própria vizinhança ainda a alcance
+        while (distancia(origem, livre) >= vizinhanca) {
+            livre = aproximarLivre(livre);
+            if (livre == -1) {
+                return false;
+            }
+        }
+
+        tabela[livre] = registro;
+        hopInfo[origem] |= 1 << distancia(origem, livre);
+        return true;
+    }
+
+    // Dobra a tabela e recoloca tudo, inclusive o transbordo; se ainda sobrar mais chaves
+    // sem vizinhança do que o transbordo comporta, dobra de novo
+    private void crescer() {
+        int colisoesAntes = colisoes;
+        List<Registro> todos = new ArrayList<>(tamanho);
+        for (Registro registro : tabela) {
+            if (registro != null) {
+                todos.add(registro);
+            }
+        }
+        todos.addAll(transbordo);
+
+        int capacidade = tabela.length;
+        boolean coube;
+        do {
+            capacidade *= 2;
+            tabela = new Registro[capacidade];
+            hopInfo = new int[capacidade];
+            vizinhanca = Math.min(H, capacidade);
+            transbordo = new HashSet<>();
+            origensComTransbordo = new BitSet(capacidade);
+            crescimentos++;
+
+            coube = true;
+            for (Registro registro : todos) {
+                colocarOuTransbordar(registro);
+                if (transbordo.size() > capacidade / TRANSBORDO_POR_POSICAO) {
+                    coube = false;
+                    break;
+                }
+            }
+        } while (!coube);
+        // Reposicionar elementos existentes não conta como colisão de inserção
+        colisoes = colisoesAntes;
+    }
+
+    private int aproximarLivre(int livre) {
+        for (int recuo = vizinhanca - 1; recuo > 0; recuo--) {
+            int origem = posicao(livre, tabela.length - recuo);
+            int bits = hopInfo[origem];
+            // O bit mais baixo é o elemento mais próximo da origem, o melhor candidato
+            int d = Integer.numberOfTrailingZeros(bits);
+            if (bits != 0 && d < recuo) {
+                int indice = posicao(origem, d);
+                tabela[livre] = tabela[indice];
+                tabela[indice] = null;
+                hopInfo[origem] = (hopInfo[origem] & ~(1 << d)) | (1 << recuo);
+                deslocamentos++;
+                return indice;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        int origem = funcaoHash(registro);
+        return localizar(registro, origem) != -1
+                || (origensComTransbordo.get(origem) && transbordo.contains(registro));
+    }
+
+    @Override
+    public boolean remover(Registro registro) {
+        int origem = funcaoHash(registro);
+        int indice = localizar(registro, origem);
+        if (indice == -1) {
+            // O bit da origem fica ligado: no pior caso a busca olha o transbordo à toa
+            if (origensComTransbordo.get(origem) && transbordo.remove(registro)) {
+                tamanho--;
+                return true;
+            }
+            return false;
+        }
+        tabela[indice] = null;
+        hopInfo[origem] &= ~(1 << distancia(origem, indice));
+        tamanho--;
+        return true;
+    }
+
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+
+    @Override
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho / tabela.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        System.out.println("** Estatísticas Hopscotch **");
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+        System.out.println("Vizinhança (H): " + vizinhanca);
+        System.out.println("Deslocamentos na inserção: " + deslocamentos);
+        System.out.println("Crescimentos: " + crescimentos);
+        System.out.println("Chaves no transbordo: " + transbordo.size());
+
+        int maiorDistancia = 0;
+        for (int bits : hopInfo) {
+            if (bits != 0) {
+                maiorDistancia = Math.max(maiorDistancia, 31 - Integer.numberOfLeadingZeros(bits));
+            }
+        }
+        System.out.println("Maior distância da origem: " + maiorDistancia);
+
+        int[] gaps = getGaps();
+        if (tamanho > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < tabela.length; i++) {
+            if (tabela[i] != null) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
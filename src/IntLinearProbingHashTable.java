@@ -0,0 +1,340 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class IntLinearProbingHashTable implements HashTable {
+    // Códigos têm 9 dígitos (0 a 999999999), então nenhum código válido é negativo
+    private static final int VAZIO = -1;
+    // Construção paralela: regiões pequenas demais fariam muitas chaves transbordarem para a vizinha
+    private static final int TAMANHO_MINIMO_REGIAO = 4096;
+    private static final int REGIOES_POR_THREAD = 4;
+    // Inserção em lote: posições por faixa (16K ints = 64 KB, cabe no L2)
+    private static final int POSICOES_POR_FAIXA = 16384;
+    // Chaves sondadas juntas na busca em lote
+    private static final int GRUPO_LOTE = 16;
+
+    private int[] tabela;
+    private int colisoes;
+    private int tamanho;
+    private final FuncaoHash estrategia;
+
+    public IntLinearProbingHashTable(int capacidade) {
+        this(capacidade, FuncaoHash.FIBONACCI);
+    }
+
+    public IntLinearProbingHashTable(int capacidade, FuncaoHash estrategia) {
+        this.tabela = new int[capacidade];
+        this.estrategia = estrategia;
+        this.colisoes = 0;
+        this.tamanho = 0;
+        Arrays.fill(tabela, VAZIO);
+    }
+
+    private int funcaoHash(int codigo) {
+        // Padrão: multiplicação de Fibonacci direto sobre o inteiro, usando os bits altos do produto
+        return estrategia.indice(codigo, tabela.length);
+    }
+
+    private int rehash(int indice) {
+        int proximo = indice + 1;
+        return proximo == tabela.length ? 0 : proximo;
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        inserir(registro.getCodigoNumerico());
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        return buscar(registro.getCodigoNumerico());
+    }
+
+    @Override
+    public void inserir(int codigo) {
+        inserirAPartirDe(funcaoHash(validar(codigo)), codigo);
+    }
+
+    // VAZIO é -1: um código negativo seria gravado como posição vazia e se perderia
+    private static int validar(int codigo) {
+        if (codigo < 0 || codigo > 999999999) throw new IllegalArgumentException("Código deve ter 9 dígitos");
+        return codigo;
+    }
+
+    private void inserirAPartirDe(int indice, int codigo) {
+        int tentativas = 0;
+
+        while (tabela[indice] != VAZIO && tentativas < tabela.length) {
+            if (tabela[indice] == codigo) {
+                return;
+            }
+            colisoes++;
+            indice = rehash(indice);
+            tentativas++;
+        }
+
+        if (tentativas < tabela.length) {
+            tabela[indice] = codigo;
+            tamanho++;
+        }
+    }
+
+    @Override
+    public boolean buscar(int codigo) {
+        int indice = funcaoHash(codigo);
+        int tentativas = 0;
+
+        while (tabela[indice] != VAZIO && tentativas < tabela.length) {
+            if (tabela[indice] == codigo) {
+                return true;
+            }
+            indice = rehash(indice);
+            tentativas++;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void inserirLote(Registro[] registros) {
+        int[] codigos = new int[registros.length];
+        for (int i = 0; i < registros.length; i++) {
+            codigos[i] = registros[i].getCodigoNumerico();
+        }
+        inserirLote(codigos);
+    }
+
+    // Agrupa o lote por faixa de posições de origem antes de inserir (counting sort, O(n)):
+    // as escritas varrem a tabela faixa a faixa, em vez de saltar por páginas aleatórias
+    @Override
+    public void inserirLote(int[] codigos) {
+        int faixas = Math.max(1, tabela.length / POSICOES_POR_FAIXA);
+        int[] origens = new int[codigos.length];
+        int[] inicioFaixa = new int[faixas + 1];
+        for (int i = 0; i < codigos.length; i++) {
+            origens[i] = funcaoHash(validar(codigos[i]));
+            inicioFaixa[faixa(origens[i], faixas) + 1]++;
+        }
+        for (int f = 0; f < faixas; f++) {
+            inicioFaixa[f + 1] += inicioFaixa[f];
+        }
+
+        int[] ordenados = new int[codigos.length];
+        for (int i = 0; i < codigos.length; i++) {
+            ordenados[inicioFaixa[faixa(origens[i], faixas)]++] = i;
+        }
+        for (int i : ordenados) {
+            inserirAPartirDe(origens[i], codigos[i]);
+        }
+    }
+
+    private int faixa(int indice, int faixas) {
+        return (int) ((long) indice * faixas / tabela.length);
+    }
+
+    @Override
+    public void buscarLote(Registro[] chaves, BitSet resultado) {
+        int[] codigos = new int[chaves.length];
+        for (int i = 0; i < chaves.length; i++) {
+            codigos[i] = chaves[i].getCodigoNumerico();
+        }
+        buscarLote(codigos, resultado);
+    }
+
+    // Sondagem intercalada: a cada rodada cada chave pendente do grupo dá um passo.
+    // As leituras de uma rodada não dependem umas das outras, então as faltas de cache
+    // se sobrepõem em vez de serem pagas uma depois da outra como em buscar()
+    @Override
+    public void buscarLote(int[] codigos, BitSet resultado) {
+        resultado.clear(0, codigos.length);
+        int[] pendentes = new int[GRUPO_LOTE];
+        int[] indices = new int[GRUPO_LOTE];
+        int[] tentativas = new int[GRUPO_LOTE];
+
+        for (int inicio = 0; inicio < codigos.length; inicio += GRUPO_LOTE) {
+            int ativos = Math.min(GRUPO_LOTE, codigos.length - inicio);
+            for (int j = 0; j < ativos; j++) {
+                pendentes[j] = inicio + j;
+                indices[j] = funcaoHash(codigos[inicio + j]);
+                tentativas[j] = 0;
+            }
+
+            while (ativos > 0) {
+                int restantes = 0;
+                for (int j = 0; j < ativos; j++) {
+                    int valor = tabela[indices[j]];
+                    if (valor == codigos[pendentes[j]]) {
+                        resultado.set(pendentes[j]);
+                    } else if (valor != VAZIO && tentativas[j] + 1 < tabela.length) {
+                        // Compacta as que continuam no começo dos arrays do grupo
+                        pendentes[restantes] = pendentes[j];
+                        indices[restantes] = rehash(indices[j]);
+                        tentativas[restantes] = tentativas[j] + 1;
+                        restantes++;
+                    }
+                }
+                ativos = restantes;
+            }
+        }
+    }
+
+    // Particiona as chaves (radix pela faixa de posições de destino) e preenche cada faixa
+    // numa thread do fork/join; as faixas são disjuntas, então ninguém sincroniza nada
+    @Override
+    public void construirEmParalelo(List<Registro> registros) {
+        int regioes = Math.min(tabela.length / TAMANHO_MINIMO_REGIAO,
+                ForkJoinPool.getCommonPoolParallelism() * REGIOES_POR_THREAD);
+        if (tamanho > 0 || regioes < 2) {
+            HashTable.super.construirEmParalelo(registros);
+            return;
+        }
+
+        int n = registros.size();
+        int[] codigos = new int[n];
+        int[] regiaoDe = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            codigos[i] = validar(registros.get(i).getCodigoNumerico());
+            regiaoDe[i] = regiao(funcaoHash(codigos[i]), regioes);
+        });
+
+        // Counting sort paralelo: histograma por bloco, prefixos, depois cada bloco espalha sua parte
+        int blocos = regioes;
+        int[][] inicios = new int[blocos][regioes];
+        IntStream.range(0, blocos).parallel().forEach(b -> {
+            for (int i = inicioBloco(b, blocos, n); i < inicioBloco(b + 1, blocos, n); i++) {
+                inicios[b][regiaoDe[i]]++;
+            }
+        });
+        int[] inicioRegiao = new int[regioes + 1];
+        int acumulado = 0;
+        for (int r = 0; r < regioes; r++) {
+            inicioRegiao[r] = acumulado;
+            for (int b = 0; b < blocos; b++) {
+                int quantidade = inicios[b][r];
+                inicios[b][r] = acumulado;
+                acumulado += quantidade;
+            }
+        }
+        inicioRegiao[regioes] = acumulado;
+
+        int[] particionados = new int[n];
+        IntStream.range(0, blocos).parallel().forEach(b -> {
+            int[] proximaPosicao = inicios[b];
+            for (int i = inicioBloco(b, blocos, n); i < inicioBloco(b + 1, blocos, n); i++) {
+                particionados[proximaPosicao[regiaoDe[i]]++] = codigos[i];
+            }
+        });
+
+        // Cada região sonda só dentro de [inicio, fim); quem chega ao fim sem achar vaga
+        // é compactado no começo do próprio segmento e inserido depois, sequencialmente
+        int[] transbordos = new int[regioes];
+        int[] colisoesRegiao = new int[regioes];
+        int[] inseridosRegiao = new int[regioes];
+        IntStream.range(0, regioes).parallel().forEach(r -> {
+            int fim = inicioPosicao(r + 1, regioes);
+            int transbordo = 0;
+            int colisoesLocais = 0;
+            int inseridos = 0;
+            for (int k = inicioRegiao[r]; k < inicioRegiao[r + 1]; k++) {
+                int codigo = particionados[k];
+                int indice = funcaoHash(codigo);
+                while (indice < fim && tabela[indice] != VAZIO && tabela[indice] != codigo) {
+                    colisoesLocais++;
+                    indice++;
+                }
+                if (indice == fim) {
+                    particionados[inicioRegiao[r] + transbordo++] = codigo;
+                } else if (tabela[indice] == VAZIO) {
+                    tabela[indice] = codigo;
+                    inseridos++;
+                }
+            }
+            transbordos[r] = transbordo;
+            colisoesRegiao[r] = colisoesLocais;
+            inseridosRegiao[r] = inseridos;
+        });
+
+        for (int r = 0; r < regioes; r++) {
+            colisoes += colisoesRegiao[r];
+            tamanho += inseridosRegiao[r];
+        }
+        // Sondagem normal a partir da posição de origem: atravessa a região cheia e segue para a próxima
+        for (int r = 0; r < regioes; r++) {
+            for (int k = inicioRegiao[r]; k < inicioRegiao[r] + transbordos[r]; k++) {
+                inserir(particionados[k]);
+            }
+        }
+    }
+
+    private int regiao(int indice, int regioes) {
+        return (int) ((long) indice * regioes / tabela.length);
+    }
+
+    // Primeira posição da tabela que pertence à região r (inversa de regiao())
+    private int inicioPosicao(int r, int regioes) {
+        return (int) (((long) r * tabela.length + regioes - 1) / regioes);
+    }
+
+    private static int inicioBloco(int b, int blocos, int n) {
+        return (int) ((long) b * n / blocos);
+    }
+
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+
+    @Override
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho / tabela.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        System.out.println("** Estatísticas Linear Probing (int) **");
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+        System.out.println("Memória da tabela: " + (tabela.length * 4L / 1024) + " KB");
+
+        int[] gaps = getGaps();
+        if (tamanho > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < tabela.length; i++) {
+            if (tabela[i] != VAZIO) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
@@ -1,65 +1,364 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
 public class LinearProbingHashTable implements HashTable {
+    private static final int INSERIDO = 1;
+    private static final int EXISTENTE = 0;
+    private static final int SEM_ESPACO = -1;
+    // Posições da tabela antiga migradas a cada operação durante o crescimento
+    private static final int MIGRACOES_POR_OPERACAO = 4;
+    // Construção paralela: regiões pequenas demais fariam muitas chaves transbordarem para a vizinha
+    private static final int TAMANHO_MINIMO_REGIAO = 4096;
+    private static final int REGIOES_POR_THREAD = 4;
+    // Inserção em lote: posições por faixa (16K referências, 64-128 KB, cabe no L2)
+    private static final int POSICOES_POR_FAIXA = 16384;
+    // Chaves sondadas juntas na busca em lote
+    private static final int GRUPO_LOTE = 16;
+
     private Registro[] tabela;
     private int colisoes;
     private int tamanho;
     private static final Registro DELETED = new Registro("000000000");
 
+    // Crescimento incremental (estilo Redis): 0 = capacidade fixa
+    private double fatorCargaMaximo;
+    private Registro[] antiga;
+    private int proximaMigracao;
+    // null = Knuth sobre os dígitos (função original)
+    private final FuncaoHash estrategia;
+
     public LinearProbingHashTable(int capacidade) {
+        this(capacidade, 0);
+    }
+
+    public LinearProbingHashTable(int capacidade, double fatorCargaMaximo) {
+        this(capacidade, fatorCargaMaximo, null);
+    }
+
+    public LinearProbingHashTable(int capacidade, double fatorCargaMaximo, FuncaoHash estrategia) {
+        if (fatorCargaMaximo < 0 || fatorCargaMaximo >= 1) {
+            throw new IllegalArgumentException("Fator de carga máximo deve estar em [0, 1)");
+        }
         this.tabela = new Registro[capacidade];
         this.colisoes = 0;
         this.tamanho = 0;
+        this.fatorCargaMaximo = fatorCargaMaximo;
+        this.estrategia = estrategia;
     }
 
-    private int funcaoHash(String codigo) {
+    private int funcaoHash(Registro registro, int capacidade) {
+        if (estrategia != null) {
+            return estrategia.indice(registro.getCodigoNumerico(), capacidade);
+        }
         // Função hash multiplicativa (método de Knuth)
+        String codigo = registro.getCodigo();
         long hash = 0;
         long A = 2654435761L; // (sqrt(5) - 1) / 2 * 2^32
         for (int i = 0; i < codigo.length(); i++) {
             hash = hash * A + (codigo.charAt(i) - '0');
         }
-        return (int)((hash & 0x7FFFFFFF) % tabela.length);
+        return (int)((hash & 0x7FFFFFFF) % capacidade);
     }
 
-    private int rehash(int indice) {
-        return (indice + 1) % tabela.length;
+    private int rehash(int indice, int capacidade) {
+        return (indice + 1) % capacidade;
     }
 
     @Override
     public void inserir(Registro registro) {
-        int indice = funcaoHash(registro.getCodigo());
+        if (antiga != null) {
+            migrarPasso();
+            // Ainda não migrado: já está contado em tamanho
+            if (antiga != null && contem(antiga, registro)) {
+                return;
+            }
+        }
+
+        int resultado = inserirEm(tabela, registro, true);
+        while (resultado == SEM_ESPACO && fatorCargaMaximo > 0) {
+            concluirMigracao();
+            iniciarCrescimento();
+            resultado = inserirEm(tabela, registro, true);
+        }
+
+        if (resultado == INSERIDO) {
+            tamanho++;
+            if (fatorCargaMaximo > 0 && antiga == null && tamanho > fatorCargaMaximo * tabela.length) {
+                iniciarCrescimento();
+            }
+        }
+    }
+
+    private int inserirEm(Registro[] alvo, Registro registro, boolean contarColisoes) {
+        return inserirEm(alvo, registro, funcaoHash(registro, alvo.length), contarColisoes);
+    }
+
+    private int inserirEm(Registro[] alvo, Registro registro, int indice, boolean contarColisoes) {
         int tentativas = 0;
 
-        while (tabela[indice] != null && tabela[indice] != DELETED && tentativas < tabela.length) {
-            if (tabela[indice].equals(registro)) {
-                return;
+        while (alvo[indice] != null && alvo[indice] != DELETED && tentativas < alvo.length) {
+            if (alvo[indice].equals(registro)) {
+                return EXISTENTE;
             }
-            colisoes++;
-            indice = rehash(indice);
+            if (contarColisoes) {
+                colisoes++;
+            }
+            indice = rehash(indice, alvo.length);
             tentativas++;
         }
 
-        if (tentativas < tabela.length) {
-            tabela[indice] = registro;
-            tamanho++;
+        if (tentativas < alvo.length) {
+            alvo[indice] = registro;
+            return INSERIDO;
         }
+        return SEM_ESPACO;
     }
 
     @Override
     public boolean buscar(Registro registro) {
-        int indice = funcaoHash(registro.getCodigo());
+        if (antiga != null) {
+            migrarPasso();
+        }
+        return contem(tabela, registro) || (antiga != null && contem(antiga, registro));
+    }
+
+    private boolean contem(Registro[] alvo, Registro registro) {
+        int indice = funcaoHash(registro, alvo.length);
         int tentativas = 0;
 
-        while (tabela[indice] != null && tentativas < tabela.length) {
-            if (tabela[indice] != DELETED && tabela[indice].equals(registro)) {
+        while (alvo[indice] != null && tentativas < alvo.length) {
+            if (alvo[indice] != DELETED && alvo[indice].equals(registro)) {
                 return true;
             }
-            indice = rehash(indice);
+            indice = rehash(indice, alvo.length);
             tentativas++;
         }
 
         return false;
     }
 
+    private void iniciarCrescimento() {
+        // A antiga fica só para leitura; nenhuma operação paga a cópia inteira de uma vez
+        antiga = tabela;
+        tabela = new Registro[antiga.length * 2];
+        proximaMigracao = 0;
+    }
+
+    private void migrarPasso() {
+        for (int i = 0; i < MIGRACOES_POR_OPERACAO && proximaMigracao < antiga.length; i++) {
+            Registro registro = antiga[proximaMigracao++];
+            if (registro != null && registro != DELETED) {
+                inserirEm(tabela, registro, false);
+            }
+        }
+        if (proximaMigracao == antiga.length) {
+            antiga = null;
+        }
+    }
+
+    private void concluirMigracao() {
+        while (antiga != null) {
+            migrarPasso();
+        }
+    }
+
+    // Agrupa o lote por faixa de posições de origem antes de inserir (counting sort, O(n),
+    // estável): as escritas varrem a tabela faixa a faixa em vez de saltar por páginas
+    // aleatórias. Registros repetidos mantêm a ordem do lote
+    @Override
+    public void inserirLote(Registro[] registros) {
+        if (fatorCargaMaximo > 0) {
+            // Com crescimento a tabela pode mudar no meio do lote: ordena, mas insere pelo caminho normal
+            for (int i : ordenarPorFaixa(registros, null)) {
+                inserir(registros[i]);
+            }
+            return;
+        }
+
+        int[] origens = new int[registros.length];
+        for (int i : ordenarPorFaixa(registros, origens)) {
+            if (inserirEm(tabela, registros[i], origens[i], true) == INSERIDO) {
+                tamanho++;
+            }
+        }
+    }
+
+    // Devolve as posições do lote agrupadas por faixa; se origens != null, guarda a origem de cada registro
+    private int[] ordenarPorFaixa(Registro[] registros, int[] origens) {
+        int faixas = Math.max(1, tabela.length / POSICOES_POR_FAIXA);
+        int[] faixaDe = new int[registros.length];
+        int[] inicioFaixa = new int[faixas + 1];
+        for (int i = 0; i < registros.length; i++) {
+            int origem = funcaoHash(registros[i], tabela.length);
+            if (origens != null) {
+                origens[i] = origem;
+            }
+            faixaDe[i] = (int) ((long) origem * faixas / tabela.length);
+            inicioFaixa[faixaDe[i] + 1]++;
+        }
+        for (int f = 0; f < faixas; f++) {
+            inicioFaixa[f + 1] += inicioFaixa[f];
+        }
+
+        int[] ordenados = new int[registros.length];
+        for (int i = 0; i < registros.length; i++) {
+            ordenados[inicioFaixa[faixaDe[i]]++] = i;
+        }
+        return ordenados;
+    }
+
+    // Sondagem intercalada: todos os hashes do grupo são calculados antes, depois a cada
+    // rodada cada chave pendente dá um passo. As leituras de uma rodada são independentes,
+    // então as faltas de cache se sobrepõem. Durante a migração cai na busca normal
+    @Override
+    public void buscarLote(Registro[] chaves, BitSet resultado) {
+        if (antiga != null) {
+            HashTable.super.buscarLote(chaves, resultado);
+            return;
+        }
+
+        resultado.clear(0, chaves.length);
+        int[] pendentes = new int[GRUPO_LOTE];
+        int[] indices = new int[GRUPO_LOTE];
+        int[] tentativas = new int[GRUPO_LOTE];
+        Registro[] atuais = new Registro[GRUPO_LOTE];
+
+        for (int inicio = 0; inicio < chaves.length; inicio += GRUPO_LOTE) {
+            int ativos = Math.min(GRUPO_LOTE, chaves.length - inicio);
+            for (int j = 0; j < ativos; j++) {
+                pendentes[j] = inicio + j;
+                indices[j] = funcaoHash(chaves[inicio + j], tabela.length);
+                tentativas[j] = 0;
+            }
+
+            while (ativos > 0) {
+                // Primeiro só as referências das posições, depois as comparações
+                for (int j = 0; j < ativos; j++) {
+                    atuais[j] = tabela[indices[j]];
+                }
+                int restantes = 0;
+                for (int j = 0; j < ativos; j++) {
+                    Registro atual = atuais[j];
+                    if (atual == null) {
+                        continue;
+                    }
+                    if (atual != DELETED && atual.equals(chaves[pendentes[j]])) {
+                        resultado.set(pendentes[j]);
+                    } else if (tentativas[j] + 1 < tabela.length) {
+                        // Compacta as que continuam no começo dos arrays do grupo
+                        pendentes[restantes] = pendentes[j];
+                        indices[restantes] = rehash(indices[j], tabela.length);
+                        tentativas[restantes] = tentativas[j] + 1;
+                        restantes++;
+                    }
+                }
+                ativos = restantes;
+            }
+        }
+    }
+
+    // Particiona os registros (radix pela faixa de posições de destino) e preenche cada faixa
+    // numa thread do fork/join. Só no modo de capacidade fixa: com crescimento a tabela muda no meio
+    @Override
+    public void construirEmParalelo(List<Registro> registros) {
+        int regioes = Math.min(tabela.length / TAMANHO_MINIMO_REGIAO,
+                ForkJoinPool.getCommonPoolParallelism() * REGIOES_POR_THREAD);
+        if (tamanho > 0 || fatorCargaMaximo > 0 || regioes < 2) {
+            HashTable.super.construirEmParalelo(registros);
+            return;
+        }
+
+        int n = registros.size();
+        int[] origens = new int[n];
+        IntStream.range(0, n).parallel().forEach(i ->
+                origens[i] = funcaoHash(registros.get(i), tabela.length));
+
+        // Counting sort paralelo: histograma por bloco, prefixos, depois cada bloco espalha sua parte
+        int blocos = regioes;
+        int[][] inicios = new int[blocos][regioes];
+        IntStream.range(0, blocos).parallel().forEach(b -> {
+            for (int i = inicioBloco(b, blocos, n); i < inicioBloco(b + 1, blocos, n); i++) {
+                inicios[b][regiao(origens[i], regioes)]++;
+            }
+        });
+        int[] inicioRegiao = new int[regioes + 1];
+        int acumulado = 0;
+        for (int r = 0; r < regioes; r++) {
+            inicioRegiao[r] = acumulado;
+            for (int b = 0; b < blocos; b++) {
+                int quantidade = inicios[b][r];
+                inicios[b][r] = acumulado;
+                acumulado += quantidade;
+            }
+        }
+        inicioRegiao[regioes] = acumulado;
+
+        Registro[] particionados = new Registro[n];
+        int[] origensParticionadas = new int[n];
+        IntStream.range(0, blocos).parallel().forEach(b -> {
+            int[] proximaPosicao = inicios[b];
+            for (int i = inicioBloco(b, blocos, n); i < inicioBloco(b + 1, blocos, n); i++) {
+                int destino = proximaPosicao[regiao(origens[i], regioes)]++;
+                particionados[destino] = registros.get(i);
+                origensParticionadas[destino] = origens[i];
+            }
+        });
+
+        // Cada região sonda só dentro de [inicio, fim); quem chega ao fim sem achar vaga
+        // é compactado no começo do próprio segmento e inserido depois, sequencialmente
+        int[] transbordos = new int[regioes];
+        int[] colisoesRegiao = new int[regioes];
+        int[] inseridosRegiao = new int[regioes];
+        IntStream.range(0, regioes).parallel().forEach(r -> {
+            int fim = inicioPosicao(r + 1, regioes);
+            int transbordo = 0;
+            int colisoesLocais = 0;
+            int inseridos = 0;
+            for (int k = inicioRegiao[r]; k < inicioRegiao[r + 1]; k++) {
+                Registro registro = particionados[k];
+                int indice = origensParticionadas[k];
+                while (indice < fim && tabela[indice] != null && !tabela[indice].equals(registro)) {
+                    colisoesLocais++;
+                    indice++;
+                }
+                if (indice == fim) {
+                    particionados[inicioRegiao[r] + transbordo++] = registro;
+                } else if (tabela[indice] == null) {
+                    tabela[indice] = registro;
+                    inseridos++;
+                }
+            }
+            transbordos[r] = transbordo;
+            colisoesRegiao[r] = colisoesLocais;
+            inseridosRegiao[r] = inseridos;
+        });
+
+        for (int r = 0; r < regioes; r++) {
+            colisoes += colisoesRegiao[r];
+            tamanho += inseridosRegiao[r];
+        }
+        // Sondagem normal a partir da posição de origem: atravessa a região cheia e segue para a próxima
+        for (int r = 0; r < regioes; r++) {
+            for (int k = inicioRegiao[r]; k < inicioRegiao[r] + transbordos[r]; k++) {
+                inserir(particionados[k]);
+            }
+        }
+    }
+
+    private int regiao(int indice, int regioes) {
+        return (int) ((long) indice * regioes / tabela.length);
+    }
+
+    // Primeira posição da tabela que pertence à região r (inversa de regiao())
+    private int inicioPosicao(int r, int regioes) {
+        return (int) (((long) r * tabela.length + regioes - 1) / regioes);
+    }
+
+    private static int inicioBloco(int b, int blocos, int n) {
+        return (int) ((long) b * n / blocos);
+    }
+
     @Override
     public int getColisoes() {
         return colisoes;
@@ -77,6 +376,7 @@ public class LinearProbingHashTable implements HashTable {
 
     @Override
     public void estatisticas() {
+        concluirMigracao();
         System.out.println("** Estatísticas Linear Probing **");
         System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
 
@@ -111,6 +411,7 @@ public class LinearProbingHashTable implements HashTable {
     
     @Override
     public int[] getGaps() {
+        concluirMigracao();
         int menorGap = Integer.MAX_VALUE;
         int maiorGap = 0;
         long somaGaps = 0;
@@ -1,11 +1,22 @@
 import java.util.*;
 import java.io.*;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
 
 public class Main {
     private static final int[] TAMANHOS_TABELA = {1000, 10000, 100000};
     private static final int[] TAMANHOS_DADOS = {100000, 1000000, 10000000};
+    private static final long SEMENTE = 12345;
     private static List<ResultadoExperimento> todosResultados = new ArrayList<>();
 
+    // Modo de concorrência: java Main --concorrencia [--threads=N] [--buscas=P]
+    private static final String MODO_CONCORRENCIA = "--concorrencia";
+    private static final int DADOS_CONCORRENCIA = 1000000;
+    // Modo streaming: java Main --streaming (arquivo -> tabela sem montar List<Registro>)
+    private static final String MODO_STREAMING = "--streaming";
+
     public static void main(String[] args) {
         System.out.println("** INICIANDO EXPERIMENTOS DE TABELAS HASH **");
 
@@ -13,7 +24,31 @@ public class Main {
         new File("resultados").mkdirs();
 
         gerarDados();
-        executarTestesCompletos();
+        if (Arrays.asList(args).contains(MODO_CONCORRENCIA)) {
+            int maxThreads = Runtime.getRuntime().availableProcessors();
+            int percentualBuscas = 90;
+            for (String arg : args) {
+                if (arg.startsWith("--threads=")) {
+                    maxThreads = Integer.parseInt(arg.substring("--threads=".length()));
+                } else if (arg.startsWith("--buscas=")) {
+                    percentualBuscas = Integer.parseInt(arg.substring("--buscas=".length()));
+                }
+            }
+            // threads = 0 dividiria a capacidade por zero; buscas fora de 0..100 daria carga prévia inválida
+            if (maxThreads < 1) {
+                System.out.println("ERRO: --threads deve ser pelo menos 1 (recebido " + maxThreads + ")");
+                return;
+            }
+            if (percentualBuscas < 0 || percentualBuscas > 100) {
+                System.out.println("ERRO: --buscas deve estar entre 0 e 100 (recebido " + percentualBuscas + ")");
+                return;
+            }
+            executarTestesConcorrencia(maxThreads, percentualBuscas);
+        } else if (Arrays.asList(args).contains(MODO_STREAMING)) {
+            executarTestesStreaming();
+        } else {
+            executarTestesCompletos();
+        }
         exportarResultados();
         gerarRelatorio();
 
@@ -34,7 +69,7 @@ public class Main {
                         ", Dados=" + tamanhoDados +
                         " (Fator=" + String.format("%.2f", fatorCarga) + ") **");
 
-                String arquivoDados = "data/dataset_" + (tamanhoDados/1000) + "k.txt";
+                String arquivoDados = "data/dataset_" + (tamanhoDados/1000) + "k.bin";
                 List<Registro> dados = carregarDados(arquivoDados);
 
                 if (dados.isEmpty()) {
@@ -43,104 +78,372 @@ public class Main {
                 }
 
                 // Sempre testar encadeamento (suporta qualquer fator de carga)
-                testarHashTable(new ChainingHashTable(tamanhoTabela), dados, "Encadeamento");
-
-                // Rehashing apenas para fatores <= 0.75 (evitar overflow)
-                if (fatorCarga <= 0.75) {
-                    testarHashTable(new LinearProbingHashTable(tamanhoTabela), dados, "Linear-Probing");
-                    testarHashTable(new QuadraticProbingHashTable(tamanhoTabela), dados, "Quadratic-Probing");
-                    testarHashTable(new DoubleHashingHashTable(tamanhoTabela), dados, "Double-Hashing");
-                } else {
-                    System.out.println("Rehashing não testado - fator de carga muito alto: " + String.format("%.2f", fatorCarga));
-                    System.out.println("Somente encadeamento é eficiente para fator > 0.75");
+                testarHashTable(new ChainingHashTable(tamanhoTabela), tamanhoTabela, dados, "Encadeamento");
+                testarHashTable(new ChainingHashTable(tamanhoTabela, 2.0), tamanhoTabela, dados, "Encadeamento-Linear-Hashing");
+                // Listas em arrays não viram árvore: com fator acima de 100 a varredura fica quadrática
+                if (fatorCarga <= 100) {
+                    testarHashTable(new ArrayChainingHashTable(tamanhoTabela), tamanhoTabela, dados, "Encadeamento-Arrays");
+                }
+
+                // Rehashing com capacidade fixa (fator <= 0.75) roda na rodada dimensionada pelos dados, abaixo
+                if (fatorCarga > 0.75) {
+                    // Capacidade fixa transbordaria: rehashing testado com crescimento incremental
+                    System.out.println("Fator de carga " + String.format("%.2f", fatorCarga) +
+                            " > 0.75: rehashing testado com crescimento incremental");
+                    testarHashTable(new LinearProbingHashTable(tamanhoTabela, 0.75), tamanhoTabela, dados, "Linear-Probing-Crescimento");
+                    // Capacidade potência de 2 (continua sendo ao dobrar): índice por máscara em vez de %
+                    int potenciaDeDois = Integer.highestOneBit(tamanhoTabela);
+                    testarHashTable(new LinearProbingHashTable(potenciaDeDois, 0.75, FuncaoHash.MURMUR3), potenciaDeDois,
+                            dados, "Linear-Probing-Crescimento-Murmur3");
+                    testarHashTable(new QuadraticProbingHashTable(tamanhoTabela, 0.75), tamanhoTabela, dados, "Quadratic-Probing-Crescimento");
+                    testarHashTable(new DoubleHashingHashTable(tamanhoTabela, 0.75), tamanhoTabela, dados, "Double-Hashing-Crescimento");
+                }
+            }
+        }
+
+        // Endereçamento aberto com capacidade fixa: os TAMANHOS_TABELA ficam sempre abaixo da
+        // quantidade de dados, então aqui a tabela é dimensionada pelos dados (fator 0.75)
+        for (int tamanhoDados : TAMANHOS_DADOS) {
+            int capacidade = (int) (tamanhoDados / 0.75);
+
+            System.out.println("\n" + "=".repeat(70));
+            System.out.println("** TESTE CAPACIDADE FIXA: Tabela=" + capacidade +
+                    ", Dados=" + tamanhoDados + " (Fator=0.75) **");
+
+            String arquivoDados = "data/dataset_" + (tamanhoDados/1000) + "k.bin";
+            List<Registro> dados = carregarDados(arquivoDados);
+
+            if (dados.isEmpty()) {
+                System.out.println("AVISO: Nenhum dado carregado para " + arquivoDados);
+                continue;
+            }
+
+            testarHashTable(new LinearProbingHashTable(capacidade), capacidade, dados, "Linear-Probing");
+            testarHashTable(new QuadraticProbingHashTable(capacidade), capacidade, dados, "Quadratic-Probing");
+            testarHashTable(new DoubleHashingHashTable(capacidade), capacidade, dados, "Double-Hashing");
+            testarHashTable(new IntLinearProbingHashTable(capacidade), capacidade, dados, "Linear-Probing-Int");
+            // Mesma tabela, só a função hash muda (a padrão é Fibonacci)
+            testarHashTable(new IntLinearProbingHashTable(capacidade, FuncaoHash.MURMUR3), capacidade, dados,
+                    "Linear-Probing-Int-Murmur3");
+            testarHashTable(new IntLinearProbingHashTable(capacidade, FuncaoHash.WYHASH), capacidade, dados,
+                    "Linear-Probing-Int-Wyhash");
+            testarHashTable(new IntLinearProbingHashTable(capacidade, FuncaoHash.tabulacao(SEMENTE)), capacidade, dados,
+                    "Linear-Probing-Int-Tabulacao");
+            testarHashTable(new LinearProbingHashTable(capacidade), capacidade, dados, "Linear-Probing-Paralelo", true, false);
+            testarHashTable(new IntLinearProbingHashTable(capacidade), capacidade, dados, "Linear-Probing-Int-Paralelo", true, false);
+            testarHashTable(new LinearProbingHashTable(capacidade), capacidade, dados, "Linear-Probing-Lote", true, true);
+            testarHashTable(new IntLinearProbingHashTable(capacidade), capacidade, dados, "Linear-Probing-Int-Lote", true, true);
+            testarHashTable(new RobinHoodHashTable(capacidade), capacidade, dados, "Robin-Hood");
+            testarHashTable(new RobinHoodHashTable(capacidade, FuncaoHash.MURMUR3), capacidade, dados, "Robin-Hood-Murmur3");
+            testarHashTable(new CuckooHashTable(capacidade), capacidade, dados, "Cuckoo");
+            testarHashTable(new HopscotchHashTable(capacidade), capacidade, dados, "Hopscotch");
+            testarHashTable(new SwissHashTable(capacidade), capacidade, dados, "Swiss-Table");
+            try (OffHeapHashTable offHeap = new OffHeapHashTable(capacidade)) {
+                testarHashTable(offHeap, capacidade, dados, "Linear-Probing-OffHeap");
+            }
+        }
+    }
+
+    // Mesmas tabelas que aceitam qualquer fator de carga, alimentadas pelo PipelineIngestao:
+    // no heap ficam a tabela e alguns blocos do arquivo, nunca o dataset inteiro
+    private static void executarTestesStreaming() {
+        System.out.println("\nExecutando testes em streaming...");
+
+        for (int tamanhoTabela : TAMANHOS_TABELA) {
+            for (int tamanhoDados : TAMANHOS_DADOS) {
+                System.out.println("\n" + "=".repeat(70));
+                System.out.println("** TESTE STREAMING: Tabela=" + tamanhoTabela + ", Dados=" + tamanhoDados + " **");
+
+                String arquivoDados = "data/dataset_" + (tamanhoDados/1000) + "k.bin";
+                testarHashTableStreaming(new ChainingHashTable(tamanhoTabela), tamanhoTabela, arquivoDados, "Encadeamento-Streaming");
+                testarHashTableStreaming(new LinearProbingHashTable(tamanhoTabela, 0.75), tamanhoTabela, arquivoDados,
+                        "Linear-Probing-Crescimento-Streaming");
+            }
+        }
+    }
+
+    // capacidade: a configurada na construção (soma dos shards no Sharded), para a coluna TamanhoTabela
+    private record TabelaConcorrente(Supplier<HashTable> fabrica, int capacidade) { }
+
+    private static void executarTestesConcorrencia(int maxThreads, int percentualBuscas) {
+        System.out.println("\nExecutando testes de concorrência (até " + maxThreads +
+                " threads, " + percentualBuscas + "% buscas)...");
+
+        String arquivoDados = "data/dataset_" + (DADOS_CONCORRENCIA/1000) + "k.bin";
+        List<Registro> dados = carregarDados(arquivoDados);
+        if (dados.isEmpty()) {
+            System.out.println("AVISO: Nenhum dado carregado para " + arquivoDados);
+            return;
+        }
+
+        int capacidade = dados.size() * 2;
+        int faixas = Runtime.getRuntime().availableProcessors() * 16;
+        int capacidadeShard = capacidade / maxThreads + 1;
+        Map<String, TabelaConcorrente> tabelas = new LinkedHashMap<>();
+        tabelas.put("Encadeamento-Concorrente", new TabelaConcorrente(
+                () -> new ConcurrentChainingHashTable(capacidade), capacidade));
+        tabelas.put("Encadeamento-Concorrente-Otimista", new TabelaConcorrente(
+                () -> new ConcurrentChainingHashTable(capacidade, faixas, true), capacidade));
+        tabelas.put("Encadeamento-RCU", new TabelaConcorrente(
+                () -> new RcuHashTable(capacidade), capacidade));
+        tabelas.put("Linear-Probing-Concorrente", new TabelaConcorrente(
+                () -> new ConcurrentLinearProbingHashTable(capacidade), capacidade));
+        tabelas.put("Linear-Probing-Concorrente-Redimensionavel", new TabelaConcorrente(
+                () -> new ConcurrentResizingHashTable(1000), 1000));
+        tabelas.put("Sharded-Linear-Probing", new TabelaConcorrente(
+                () -> new ShardedHashTable(maxThreads, () -> new LinearProbingHashTable(capacidadeShard)),
+                maxThreads * capacidadeShard));
+
+        // 1, 2, 4, ... até maxThreads (incluído mesmo que não seja potência de 2)
+        List<Integer> contagensThreads = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            contagensThreads.add(threads);
+        }
+        contagensThreads.add(maxThreads);
+
+        for (Map.Entry<String, TabelaConcorrente> tabela : tabelas.entrySet()) {
+            System.out.println("\n" + "=".repeat(70));
+            System.out.println("** TESTE CONCORRENTE: " + tabela.getKey() + " **");
+
+            double opsUmaThread = 0;
+            for (int threads : contagensThreads) {
+                ResultadoExperimento resultado = testarConcorrencia(
+                        tabela.getValue().fabrica().get(), dados, tabela.getKey(), threads, percentualBuscas,
+                        tabela.getValue().capacidade());
+                if (resultado == null) {
+                    break;
+                }
+                if (threads == 1) {
+                    opsUmaThread = resultado.getOpsPorSegundo();
+                }
+                if (opsUmaThread > 0) {
+                    resultado.setEficienciaEscalonamento(resultado.getOpsPorSegundo() / (threads * opsUmaThread));
+                }
+                System.out.println(String.format("%2d threads: %,.0f ops/s (eficiência %.2f)",
+                        threads, resultado.getOpsPorSegundo(), resultado.getEficienciaEscalonamento()));
+                todosResultados.add(resultado);
+            }
+        }
+    }
+
+    // As chaves que as inserções medidas vão usar ficam de fora da carga prévia (o resto entra
+    // antes, fora da medição): toda inserção medida é de uma chave nova, não um no-op. As operações
+    // 0..n-1 são divididas entre as threads; a operação i é inserção em (100 - buscas)% dos casos,
+    // espalhadas por igual, e busca de uma chave sorteada entre todos os dados no resto
+    private static ResultadoExperimento testarConcorrencia(HashTable hashTable, List<Registro> dados, String nome,
+                                                           int threads, int percentualBuscas, int capacidade) {
+        try {
+            if (!hashTable.isConcorrente()) {
+                throw new IllegalArgumentException(nome + " não é thread-safe");
+            }
+
+            int n = dados.size();
+            int novas = (int) ((long) n * (100 - percentualBuscas) / 100);
+            int preCarga = n - novas;
+            for (int i = 0; i < preCarga; i++) {
+                hashTable.inserir(dados.get(i));
+            }
+
+            CyclicBarrier largada = new CyclicBarrier(threads + 1);
+            List<FutureTask<Void>> trabalhadores = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int primeiro = t;
+                FutureTask<Void> trabalhador = new FutureTask<>(() -> {
+                    SplittableRandom aleatorio = new SplittableRandom(12345 + primeiro);
+                    largada.await();
+                    for (int i = primeiro; i < n; i += threads) {
+                        // Cada índice de chave nova aparece uma única vez entre todas as operações
+                        long novasAntes = (long) i * novas / n;
+                        if ((long) (i + 1) * novas / n > novasAntes) {
+                            hashTable.inserir(dados.get(preCarga + (int) novasAntes));
+                        } else {
+                            hashTable.buscar(dados.get(aleatorio.nextInt(n)));
+                        }
+                    }
+                    return null;
+                });
+                trabalhadores.add(trabalhador);
+                new Thread(trabalhador).start();
+            }
+
+            largada.await();
+            long inicio = System.nanoTime();
+            // Espera todas; a falha de qualquer thread invalida a medição
+            Throwable falha = null;
+            for (FutureTask<Void> trabalhador : trabalhadores) {
+                try {
+                    trabalhador.get();
+                } catch (ExecutionException e) {
+                    if (falha == null) {
+                        falha = e.getCause();
+                    }
+                }
+            }
+            long duracao = System.nanoTime() - inicio;
+            if (falha != null) {
+                throw new IllegalStateException("falha numa thread: " + falha, falha);
+            }
+
+            ResultadoExperimento resultado = new ResultadoExperimento(nome, capacidade, dados.size());
+            resultado.setThreads(threads);
+            resultado.setOpsPorSegundo(dados.size() * 1e9 / duracao);
+            resultado.setColisoes(hashTable.getColisoes());
+            resultado.setFatorCarga(hashTable.getFatorCarga());
+            return resultado;
+
+        } catch (Exception e) {
+            System.out.println("ERRO em " + nome + ": " + e.getMessage());
+            return null;
+        } finally {
+            if (hashTable instanceof AutoCloseable recurso) {
+                try {
+                    recurso.close();
+                } catch (Exception e) {
+                    System.out.println("Erro ao fechar " + nome + ": " + e.getMessage());
                 }
             }
         }
     }
 
-    private static void testarHashTable(HashTable hashTable, List<Registro> dados, String nome) {
+    private static void testarHashTable(HashTable hashTable, int capacidade, List<Registro> dados, String nome) {
+        testarHashTable(hashTable, capacidade, dados, nome, false, false);
+    }
+
+    // construcaoParalela: carga com construirEmParalelo; buscaEmLote: busca com buscarLote,
+    // em vez de um registro por chamada
+    // capacidade: a configurada na construção, para a coluna TamanhoTabela do CSV
+    private static void testarHashTable(HashTable hashTable, int capacidade, List<Registro> dados, String nome,
+                                        boolean construcaoParalela, boolean buscaEmLote) {
         try {
             System.out.println("\n--- Testando " + nome + " ---");
 
             ResultadoExperimento resultado = new ResultadoExperimento(
-                    nome, hashTable.getTamanho(), dados.size()
+                    nome, capacidade, dados.size()
             );
 
             // Teste de inserção
             long inicio = System.currentTimeMillis();
-            for (Registro registro : dados) {
-                hashTable.inserir(registro);
+            if (construcaoParalela) {
+                hashTable.construirEmParalelo(dados);
+            } else {
+                for (Registro registro : dados) {
+                    hashTable.inserir(registro);
+                }
             }
             long fim = System.currentTimeMillis();
             resultado.setTempoInsercao(fim - inicio);
 
             // Teste de busca
+            Registro[] lote = buscaEmLote ? dados.toArray(new Registro[0]) : null;
             inicio = System.currentTimeMillis();
-            for (Registro registro : dados) {
-                hashTable.buscar(registro);
+            if (buscaEmLote) {
+                hashTable.buscarLote(lote, new BitSet(lote.length));
+            } else {
+                for (Registro registro : dados) {
+                    hashTable.buscar(registro);
+                }
             }
             fim = System.currentTimeMillis();
             resultado.setTempoBusca(fim - inicio);
-
-            // Coletar métricas básicas
-            resultado.setColisoes(hashTable.getColisoes());
-            resultado.setFatorCarga(hashTable.getFatorCarga());
-            
-            // Coletar estatísticas detalhadas
-            resultado.setMaiorLista(hashTable.getMaiorLista());
-            List<Integer> tresMaiores = hashTable.getTresMaioresListas();
-            List<String> tresMaioresStr = new ArrayList<>();
-            for (Integer tamanho : tresMaiores) {
-                tresMaioresStr.add(tamanho.toString());
+            long tempoTotal = resultado.getTempoInsercao() + resultado.getTempoBusca();
+            if (tempoTotal > 0) {
+                resultado.setOpsPorSegundo(dados.size() * 2 * 1000.0 / tempoTotal);
             }
-            resultado.setTresMaioresListas(tresMaioresStr);
-            
-            int[] gaps = hashTable.getGaps();
-            resultado.setMenorGap(gaps[0]);
-            resultado.setMaiorGap(gaps[1]);
-            resultado.setMediaGaps(gaps[2]);
 
-            // Exibir resultados parciais
-            System.out.println("Tempo inserção: " + resultado.getTempoInsercao() + "ms");
-            System.out.println("Tempo busca: " + resultado.getTempoBusca() + "ms");
-            System.out.println("Colisões: " + resultado.getColisoes());
-            System.out.println("Fator de carga: " + String.format("%.4f", resultado.getFatorCarga()));
+            coletarMetricas(hashTable, resultado);
+
+        } catch (Exception e) {
+            System.out.println("ERRO em " + nome + ": " + e.getMessage());
+        }
+    }
 
-            // Coletar estatísticas detalhadas
-            hashTable.estatisticas();
+    // Inserção e busca lendo o arquivo em blocos (inserirLote / buscarLote por bloco)
+    private static void testarHashTableStreaming(HashTable hashTable, int capacidade, String arquivoDados, String nome) {
+        try {
+            System.out.println("\n--- Testando " + nome + " ---");
 
-            todosResultados.add(resultado);
+            long inicio = System.currentTimeMillis();
+            long lidos = PipelineIngestao.inserir(arquivoDados, hashTable);
+            long fim = System.currentTimeMillis();
+            ResultadoExperimento resultado = new ResultadoExperimento(nome, capacidade, (int) lidos);
+            resultado.setTempoInsercao(fim - inicio);
+
+            inicio = System.currentTimeMillis();
+            long encontrados = PipelineIngestao.buscar(arquivoDados, hashTable);
+            fim = System.currentTimeMillis();
+            resultado.setTempoBusca(fim - inicio);
+            if (encontrados != lidos) {
+                System.out.println("AVISO: " + (lidos - encontrados) + " códigos não encontrados");
+            }
+            long tempoTotal = resultado.getTempoInsercao() + resultado.getTempoBusca();
+            if (tempoTotal > 0) {
+                resultado.setOpsPorSegundo(lidos * 2 * 1000.0 / tempoTotal);
+            }
+
+            coletarMetricas(hashTable, resultado);
 
         } catch (Exception e) {
             System.out.println("ERRO em " + nome + ": " + e.getMessage());
         }
     }
 
+    private static void coletarMetricas(HashTable hashTable, ResultadoExperimento resultado) {
+        // Coletar métricas básicas
+        resultado.setColisoes(hashTable.getColisoes());
+        resultado.setFatorCarga(hashTable.getFatorCarga());
+        
+        // Coletar estatísticas detalhadas
+        resultado.setMaiorLista(hashTable.getMaiorLista());
+        List<Integer> tresMaiores = hashTable.getTresMaioresListas();
+        List<String> tresMaioresStr = new ArrayList<>();
+        for (Integer tamanho : tresMaiores) {
+            tresMaioresStr.add(tamanho.toString());
+        }
+        resultado.setTresMaioresListas(tresMaioresStr);
+        
+        int[] gaps = hashTable.getGaps();
+        resultado.setMenorGap(gaps[0]);
+        resultado.setMaiorGap(gaps[1]);
+        resultado.setMediaGaps(gaps[2]);
+
+        // Exibir resultados parciais
+        System.out.println("Tempo inserção: " + resultado.getTempoInsercao() + "ms");
+        System.out.println("Tempo busca: " + resultado.getTempoBusca() + "ms");
+        System.out.println("Colisões: " + resultado.getColisoes());
+        System.out.println("Fator de carga: " + String.format("%.4f", resultado.getFatorCarga()));
+
+        // Coletar estatísticas detalhadas
+        hashTable.estatisticas();
+
+        todosResultados.add(resultado);
+    }
+
     // ... (resto dos métodos mantidos iguais: gerarDados, carregarDados, exportarResultados, gerarRelatorio)
     private static void gerarDados() {
         System.out.println("Gerando conjuntos de dados...");
-        Random random = new Random(12345);
 
         for (int tamanho : TAMANHOS_DADOS) {
-            String filename = "data/dataset_" + (tamanho/1000) + "k.txt";
-            try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-                for (int i = 0; i < tamanho; i++) {
-                    String codigo = String.format("%09d", random.nextInt(1000000000));
-                    writer.println(codigo);
-                }
-                System.out.println("Gerado: " + filename + " com " + tamanho + " registros");
+            String base = "data/dataset_" + (tamanho/1000) + "k";
+            try {
+                // O binário é o que os testes carregam; o texto fica para inspeção e compatibilidade
+                GeradorDados.gerar(base, tamanho, SEMENTE);
+                System.out.println("Gerado: " + base + ".bin (e .txt) com " + tamanho + " registros");
             } catch (IOException e) {
-                System.out.println("Erro ao gerar " + filename + ": " + e.getMessage());
+                System.out.println("Erro ao gerar " + base + ": " + e.getMessage());
             }
         }
     }
 
     private static List<Registro> carregarDados(String filename) {
         List<Registro> registros = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String linha;
-            while ((linha = reader.readLine()) != null) {
-                registros.add(new Registro(linha.trim()));
+        try {
+            // Arquivo mapeado e lido direto para int[] (binário ou texto); só os Registro são alocados
+            int[] codigos = filename.endsWith(".bin")
+                    ? DatasetBinario.ler(filename)
+                    : CarregadorDados.carregar(filename);
+            registros = new ArrayList<>(codigos.length);
+            for (int codigo : codigos) {
+                registros.add(new Registro(codigo));
             }
             System.out.println("Carregados " + registros.size() + " registros de " + filename);
         } catch (IOException e) {
@@ -0,0 +1,170 @@
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+public class OffHeapHashTable implements HashTable, AutoCloseable {
+    // Mesmo sentinela da IntLinearProbingHashTable: códigos válidos nunca são negativos
+    private static final int VAZIO = -1;
+    private static final long BYTES_POR_POSICAO = ValueLayout.JAVA_INT.byteSize();
+
+    private final Arena arena;
+    private final MemorySegment tabela;
+    private final long capacidade;
+    private int colisoes;
+    private int tamanho;
+    private final FuncaoHash estrategia;
+
+    public OffHeapHashTable(long capacidade) {
+        this(capacidade, FuncaoHash.FIBONACCI);
+    }
+
+    public OffHeapHashTable(long capacidade, FuncaoHash estrategia) {
+        if (capacidade <= 0) throw new IllegalArgumentException("Capacidade deve ser positiva");
+        this.capacidade = capacidade;
+        this.estrategia = estrategia;
+        this.arena = Arena.ofShared();
+        this.tabela = arena.allocate(capacidade * BYTES_POR_POSICAO, 64);
+        this.colisoes = 0;
+        this.tamanho = 0;
+        // 0xFF em todos os bytes = -1 em todas as posições
+        tabela.fill((byte) 0xFF);
+    }
+
+    private long funcaoHash(int codigo) {
+        // Mesma redução da IntLinearProbingHashTable (bits altos do hash; padrão Fibonacci): com a
+        // mesma estratégia as duas tabelas ocupam as mesmas posições e a comparação mede só o armazenamento
+        long hash = estrategia.hash64(codigo);
+        if (capacidade <= Integer.MAX_VALUE) {
+            return (hash >>> 33) % capacidade;
+        }
+        // Acima de 2^31 posições os 31 bits altos não bastam: índice pela parte alta de hash * capacidade
+        return Math.unsignedMultiplyHigh(hash, capacidade);
+    }
+
+    private long rehash(long indice) {
+        long proximo = indice + 1;
+        return proximo == capacidade ? 0 : proximo;
+    }
+
+    private int ler(long indice) {
+        return tabela.getAtIndex(ValueLayout.JAVA_INT, indice);
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        inserir(registro.getCodigoNumerico());
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        return buscar(registro.getCodigoNumerico());
+    }
+
+    @Override
+    public void inserir(int codigo) {
+        // -1 é o VAZIO do preenchimento com 0xFF: um código negativo se perderia na tabela
+        if (codigo < 0 || codigo > 999999999) throw new IllegalArgumentException("Código deve ter 9 dígitos");
+        long indice = funcaoHash(codigo);
+        long tentativas = 0;
+
+        while (ler(indice) != VAZIO && tentativas < capacidade) {
+            if (ler(indice) == codigo) {
+                return;
+            }
+            colisoes++;
+            indice = rehash(indice);
+            tentativas++;
+        }
+
+        if (tentativas < capacidade) {
+            tabela.setAtIndex(ValueLayout.JAVA_INT, indice, codigo);
+            tamanho++;
+        }
+    }
+
+    @Override
+    public boolean buscar(int codigo) {
+        long indice = funcaoHash(codigo);
+        long tentativas = 0;
+
+        while (ler(indice) != VAZIO && tentativas < capacidade) {
+            if (ler(indice) == codigo) {
+                return true;
+            }
+            indice = rehash(indice);
+            tentativas++;
+        }
+
+        return false;
+    }
+
+    // Memória alocada fora do heap (não conta para -Xmx nem é varrida pelo GC)
+    public long getBytesForaDoHeap() {
+        return tabela.byteSize();
+    }
+
+    // Libera a memória imediatamente; qualquer acesso posterior lança IllegalStateException
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+
+    @Override
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho / capacidade;
+    }
+
+    @Override
+    public void estatisticas() {
+        System.out.println("** Estatísticas Linear Probing (off-heap) **");
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+        System.out.println("Memória fora do heap: " + (getBytesForaDoHeap() / 1024) + " KB");
+
+        int[] gaps = getGaps();
+        if (tamanho > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int[] getGaps() {
+        long menorGap = Long.MAX_VALUE;
+        long maiorGap = 0;
+        long somaGaps = 0;
+        long gapsCount = 0;
+        long ultimaPosicaoOcupada = -1;
+
+        for (long i = 0; i < capacidade; i++) {
+            if (ler(i) != VAZIO) {
+                if (ultimaPosicaoOcupada != -1) {
+                    long gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{(int) menorGap, (int) maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
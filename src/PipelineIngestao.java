@@ -0,0 +1,241 @@
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+// Leitura em streaming de um dataset (.bin ou .txt) até uma tabela, sem montar List<Registro>:
+//   leitor (thread própria, arquivo mapeado) -> byte[] -> conversor -> int[] -> destino
+// Cada ligação é um SubmissionPublisher com poucos blocos de buffer: se a tabela não acompanha,
+// o conversor para de pedir blocos e o leitor fica bloqueado em submit (contrapressão).
+// No heap ficam só os blocos em trânsito, então o dataset pode ser maior que o heap
+public class PipelineIngestao {
+    private static final int BYTES_POR_BLOCO = 1 << 20;
+    private static final int BLOCOS_EM_TRANSITO = 4;
+    private static final ValueLayout.OfInt INT_LE =
+            ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private PipelineIngestao() {
+    }
+
+    // Insere todos os códigos do arquivo na tabela; devolve quantos foram lidos
+    public static long inserir(String arquivo, HashTable tabela) throws IOException {
+        return aguardar(executar(arquivo, tabela::inserirLote));
+    }
+
+    // Busca todos os códigos do arquivo na tabela; devolve quantos foram encontrados
+    public static long buscar(String arquivo, HashTable tabela) throws IOException {
+        long[] encontrados = {0};
+        aguardar(executar(arquivo, bloco -> {
+            BitSet resultado = new BitSet(bloco.length);
+            tabela.buscarLote(bloco, resultado);
+            encontrados[0] += resultado.cardinality();
+        }));
+        return encontrados[0];
+    }
+
+    private static long aguardar(CompletableFuture<Long> fim) throws IOException {
+        try {
+            return fim.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    // O destino recebe os blocos em ordem, um de cada vez (nunca em paralelo consigo mesmo)
+    public static CompletableFuture<Long> executar(String arquivo, Consumer<int[]> destino) {
+        boolean binario = arquivo.endsWith(".bin");
+        CompletableFuture<Long> fim = new CompletableFuture<>();
+
+        SubmissionPublisher<byte[]> leitor = new SubmissionPublisher<>(
+                ForkJoinPool.commonPool(), BLOCOS_EM_TRANSITO);
+        Conversor conversor = new Conversor(binario);
+        leitor.subscribe(conversor);
+        conversor.subscribe(new Destino(destino, fim));
+
+        Thread leitura = new Thread(() -> ler(arquivo, binario, leitor), "leitor-" + Path.of(arquivo).getFileName());
+        leitura.setDaemon(true);
+        leitura.start();
+        return fim;
+    }
+
+    private static void ler(String arquivo, boolean binario, SubmissionPublisher<byte[]> leitor) {
+        try (FileChannel canal = FileChannel.open(Path.of(arquivo), StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment dados = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size(), arena);
+            if (binario) {
+                lerBinario(arquivo, dados, leitor);
+            } else {
+                lerTexto(dados, leitor);
+            }
+            leitor.close();
+        } catch (IOException | RuntimeException e) {
+            leitor.closeExceptionally(e);
+        }
+    }
+
+    // Blocos de texto cortados logo depois de um fim de linha, para nenhum código ficar dividido
+    private static void lerTexto(MemorySegment dados, SubmissionPublisher<byte[]> leitor) {
+        long tamanho = dados.byteSize();
+        long inicio = 0;
+        while (inicio < tamanho && leitor.hasSubscribers()) {
+            long fim = Math.min(tamanho, inicio + BYTES_POR_BLOCO);
+            if (fim < tamanho) {
+                long corte = fim;
+                while (corte > inicio && dados.get(ValueLayout.JAVA_BYTE, corte - 1) > ' ') {
+                    corte--;
+                }
+                // Linha maior que um bloco: segue até o fim dela
+                if (corte == inicio) {
+                    while (fim < tamanho && dados.get(ValueLayout.JAVA_BYTE, fim) > ' ') {
+                        fim++;
+                    }
+                } else {
+                    fim = corte;
+                }
+            }
+            leitor.submit(dados.asSlice(inicio, fim - inicio).toArray(ValueLayout.JAVA_BYTE));
+            inicio = fim;
+        }
+    }
+
+    // Só os códigos seguem adiante; o CRC32C é acumulado aqui e conferido no final
+    private static void lerBinario(String arquivo, MemorySegment dados, SubmissionPublisher<byte[]> leitor)
+            throws IOException {
+        DatasetBinario.validarCabecalho(arquivo, dados);
+        long fimCodigos = dados.byteSize() - DatasetBinario.TAMANHO_CRC;
+        CRC32C crc = new CRC32C();
+        crc.update(dados.asSlice(0, DatasetBinario.TAMANHO_CABECALHO).asByteBuffer());
+
+        long inicio = DatasetBinario.TAMANHO_CABECALHO;
+        while (inicio < fimCodigos && leitor.hasSubscribers()) {
+            // BYTES_POR_BLOCO é múltiplo de 4: todo bloco tem códigos inteiros
+            long fim = Math.min(fimCodigos, inicio + BYTES_POR_BLOCO);
+            MemorySegment bloco = dados.asSlice(inicio, fim - inicio);
+            crc.update(bloco.asByteBuffer());
+            leitor.submit(bloco.toArray(ValueLayout.JAVA_BYTE));
+            inicio = fim;
+        }
+        if (inicio == fimCodigos && (int) crc.getValue() != dados.get(INT_LE, fimCodigos)) {
+            throw new IOException(arquivo + ": CRC32C não confere (arquivo corrompido)");
+        }
+    }
+
+    // Estágio do meio: byte[] do arquivo -> int[] de códigos. Só pede o próximo bloco depois
+    // que o atual foi aceito pelo destino, então a contrapressão chega até o leitor
+    private static final class Conversor extends SubmissionPublisher<int[]>
+            implements Flow.Processor<byte[], int[]> {
+        private final boolean binario;
+        private Flow.Subscription assinatura;
+
+        Conversor(boolean binario) {
+            super(ForkJoinPool.commonPool(), BLOCOS_EM_TRANSITO);
+            this.binario = binario;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription assinatura) {
+            this.assinatura = assinatura;
+            assinatura.request(1);
+        }
+
+        @Override
+        public void onNext(byte[] bloco) {
+            // Destino desistiu (erro na tabela): cancela para o leitor parar também
+            if (!hasSubscribers()) {
+                assinatura.cancel();
+                return;
+            }
+            MemorySegment segmento = MemorySegment.ofArray(bloco);
+            int[] codigos;
+            if (binario) {
+                codigos = new int[bloco.length / Integer.BYTES];
+                MemorySegment.copy(segmento, INT_LE, 0, codigos, 0, codigos.length);
+            } else {
+                int[][] lidos = {new int[bloco.length / 10 + 1]};
+                int[] quantidade = {0};
+                try {
+                    CarregadorDados.carregar(segmento, codigo -> {
+                        if (quantidade[0] == lidos[0].length) {
+                            lidos[0] = Arrays.copyOf(lidos[0], lidos[0].length * 2);
+                        }
+                        lidos[0][quantidade[0]++] = codigo;
+                    });
+                } catch (IOException e) {
+                    assinatura.cancel();
+                    closeExceptionally(e);
+                    return;
+                }
+                codigos = Arrays.copyOf(lidos[0], quantidade[0]);
+            }
+            submit(codigos);
+            assinatura.request(1);
+        }
+
+        @Override
+        public void onError(Throwable erro) {
+            closeExceptionally(erro);
+        }
+
+        @Override
+        public void onComplete() {
+            close();
+        }
+    }
+
+    private static final class Destino implements Flow.Subscriber<int[]> {
+        private final Consumer<int[]> destino;
+        private final CompletableFuture<Long> fim;
+        private Flow.Subscription assinatura;
+        private long lidos;
+
+        Destino(Consumer<int[]> destino, CompletableFuture<Long> fim) {
+            this.destino = destino;
+            this.fim = fim;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription assinatura) {
+            this.assinatura = assinatura;
+            assinatura.request(1);
+        }
+
+        @Override
+        public void onNext(int[] codigos) {
+            try {
+                destino.accept(codigos);
+            } catch (RuntimeException e) {
+                assinatura.cancel();
+                fim.completeExceptionally(e);
+                return;
+            }
+            lidos += codigos.length;
+            assinatura.request(1);
+        }
+
+        @Override
+        public void onError(Throwable erro) {
+            fim.completeExceptionally(erro);
+        }
+
+        @Override
+        public void onComplete() {
+            fim.complete(lidos);
+        }
+    }
+}
@@ -1,77 +1,170 @@
+import java.util.*;
+
 public class QuadraticProbingHashTable implements HashTable {
+    private static final int INSERIDO = 1;
+    private static final int EXISTENTE = 0;
+    private static final int SEM_ESPACO = -1;
+    // Posições da tabela antiga migradas a cada operação durante o crescimento
+    private static final int MIGRACOES_POR_OPERACAO = 4;
+
     private Registro[] tabela;
     private int colisoes;
     private int tamanho;
     private static final Registro DELETED = new Registro("000000000");
 
+    // Crescimento incremental (estilo Redis): 0 = capacidade fixa
+    private double fatorCargaMaximo;
+    private Registro[] antiga;
+    private int proximaMigracao;
+
     public QuadraticProbingHashTable(int capacidade) {
-        this.tabela = new Registro[capacidade];
+        this(capacidade, 0);
+    }
+
+    public QuadraticProbingHashTable(int capacidade, double fatorCargaMaximo) {
+        if (fatorCargaMaximo < 0 || fatorCargaMaximo >= 1) {
+            throw new IllegalArgumentException("Fator de carga máximo deve estar em [0, 1)");
+        }
+        // Com crescimento a capacidade vira potência de 2 (e continua sendo ao dobrar): assim a
+        // sondagem visita todas as posições e a migração sempre acha lugar na tabela nova
+        this.tabela = new Registro[fatorCargaMaximo > 0 ? potenciaDeDois(capacidade) : capacidade];
         this.colisoes = 0;
         this.tamanho = 0;
+        this.fatorCargaMaximo = fatorCargaMaximo;
+    }
+
+    private static int potenciaDeDois(int capacidade) {
+        return capacidade <= 2 ? 2 : Integer.highestOneBit(capacidade - 1) << 1;
     }
 
-    private int funcaoHash(String codigo) {
+    private int funcaoHash(String codigo, int capacidade) {
         // Função hash polinomial (método de Horner)
         int hash = 0;
         int p = 31; // primo pequeno
         for (int i = 0; i < codigo.length(); i++) {
             hash = (hash * p + (codigo.charAt(i) - '0')) & 0x7FFFFFFF;
         }
-        return hash % tabela.length;
+        return hash % capacidade;
     }
 
-    private int rehashQuadratico(int indice, int tentativa) {
+    private int rehashQuadratico(int indice, int tentativa, int capacidade) {
+        if (fatorCargaMaximo > 0) {
+            // Com crescimento (m potência de 2): passos 1, 2, 3, ..., a posição i fica em
+            // h(k) + i(i+1)/2 (c1 = c2 = 1/2), números triangulares que passam por todas as posições
+            return (indice + tentativa) % capacidade;
+        }
         // i = (h(k) + c1 * i + c2 * i²) mod m
         // Usando c1 = 1, c2 = 1 (valores comuns)
-        return (indice + tentativa + tentativa * tentativa) % tabela.length;
+        return (indice + tentativa + tentativa * tentativa) % capacidade;
     }
 
     @Override
     public void inserir(Registro registro) {
-        int indice = funcaoHash(registro.getCodigo());
+        if (antiga != null) {
+            migrarPasso();
+            // Ainda não migrado: já está contado em tamanho
+            if (antiga != null && contem(antiga, registro)) {
+                return;
+            }
+        }
+
+        int resultado = inserirEm(tabela, registro, true);
+        while (resultado == SEM_ESPACO && fatorCargaMaximo > 0) {
+            concluirMigracao();
+            iniciarCrescimento();
+            resultado = inserirEm(tabela, registro, true);
+        }
+
+        if (resultado == INSERIDO) {
+            tamanho++;
+            if (fatorCargaMaximo > 0 && antiga == null && tamanho > fatorCargaMaximo * tabela.length) {
+                iniciarCrescimento();
+            }
+        } else if (resultado == SEM_ESPACO) {
+            System.out.println("AVISO: Não foi possível inserir após " + tabela.length + " tentativas");
+        }
+    }
+
+    private int inserirEm(Registro[] alvo, Registro registro, boolean contarColisoes) {
+        int indice = funcaoHash(registro.getCodigo(), alvo.length);
         int tentativas = 0;
 
-        while (tabela[indice] != null && tabela[indice] != DELETED && tentativas < tabela.length) {
-            if (tabela[indice].equals(registro)) {
-                return; // Elemento já existe
+        while (alvo[indice] != null && alvo[indice] != DELETED && tentativas < alvo.length) {
+            if (alvo[indice].equals(registro)) {
+                return EXISTENTE; // Elemento já existe
+            }
+            if (contarColisoes) {
+                colisoes++;
             }
-            colisoes++;
             tentativas++;
-            indice = rehashQuadratico(indice, tentativas);
+            indice = rehashQuadratico(indice, tentativas, alvo.length);
             if (indice < 0) {
-                indice += tabela.length;
+                indice += alvo.length;
             }
-            indice = indice % tabela.length;
+            indice = indice % alvo.length;
         }
 
-        if (tentativas < tabela.length) {
-            tabela[indice] = registro;
-            tamanho++;
-        } else {
-            System.out.println("AVISO: Não foi possível inserir após " + tentativas + " tentativas");
+        if (tentativas < alvo.length) {
+            alvo[indice] = registro;
+            return INSERIDO;
         }
+        return SEM_ESPACO;
     }
 
     @Override
     public boolean buscar(Registro registro) {
-        int indice = funcaoHash(registro.getCodigo());
+        if (antiga != null) {
+            migrarPasso();
+        }
+        return contem(tabela, registro) || (antiga != null && contem(antiga, registro));
+    }
+
+    private boolean contem(Registro[] alvo, Registro registro) {
+        int indice = funcaoHash(registro.getCodigo(), alvo.length);
         int tentativas = 0;
 
-        while (tabela[indice] != null && tentativas < tabela.length) {
-            if (tabela[indice] != DELETED && tabela[indice].equals(registro)) {
+        while (alvo[indice] != null && tentativas < alvo.length) {
+            if (alvo[indice] != DELETED && alvo[indice].equals(registro)) {
                 return true;
             }
             tentativas++;
-            indice = rehashQuadratico(indice, tentativas);
+            indice = rehashQuadratico(indice, tentativas, alvo.length);
             if (indice < 0) {
-                indice += tabela.length;
+                indice += alvo.length;
             }
-            indice = indice % tabela.length;
+            indice = indice % alvo.length;
         }
 
         return false;
     }
 
+    private void iniciarCrescimento() {
+        // A antiga fica só para leitura; nenhuma operação paga a cópia inteira de uma vez
+        antiga = tabela;
+        tabela = new Registro[antiga.length * 2];
+        proximaMigracao = 0;
+    }
+
+    private void migrarPasso() {
+        for (int i = 0; i < MIGRACOES_POR_OPERACAO && proximaMigracao < antiga.length; i++) {
+            Registro registro = antiga[proximaMigracao];
+            // Tabela nova com o dobro de posições e sondagem que passa por todas: sempre cabe
+            if (registro != null && registro != DELETED) {
+                inserirEm(tabela, registro, false);
+            }
+            proximaMigracao++;
+        }
+        if (proximaMigracao == antiga.length) {
+            antiga = null;
+        }
+    }
+
+    private void concluirMigracao() {
+        while (antiga != null) {
+            migrarPasso();
+        }
+    }
+
     @Override
     public int getColisoes() {
         return colisoes;
@@ -89,6 +182,7 @@ public class QuadraticProbingHashTable implements HashTable {
 
     @Override
     public void estatisticas() {
+        concluirMigracao();
         System.out.println("** Estatísticas Quadratic Probing **");
         System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
         System.out.println("Colisões: " + colisoes);
@@ -123,10 +217,15 @@ public class QuadraticProbingHashTable implements HashTable {
 
         // Estatística específica do Quadratic: sequência de probes
         System.out.println("Sequência de probes para primeiro elemento:");
-        int primeiroIndice = funcaoHash("000000001");
+        int primeiroIndice = funcaoHash("000000001", tabela.length);
         System.out.print("  " + primeiroIndice);
+        int probe = primeiroIndice;
         for (int i = 1; i <= 5; i++) {
-            int probe = rehashQuadratico(primeiroIndice, i);
+            // Mesmo encadeamento de inserirEm/contem: cada passo parte da posição anterior
+            probe = rehashQuadratico(probe, i, tabela.length);
+            if (probe < 0) {
+                probe += tabela.length;
+            }
             System.out.print(" → " + probe);
         }
         System.out.println();
@@ -134,6 +233,7 @@ public class QuadraticProbingHashTable implements HashTable {
     
     @Override
     public int[] getGaps() {
+        concluirMigracao();
         int menorGap = Integer.MAX_VALUE;
         int maiorGap = 0;
         long somaGaps = 0;
@@ -0,0 +1,219 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RcuHashTable implements HashTableComRemocao {
+    private static final Registro[] LISTA_VAZIA = new Registro[0];
+    private static final VarHandle BALDES = MethodHandles.arrayElementVarHandle(Registro[][].class);
+
+    // Read-copy-update: cada balde aponta para um Registro[] imutável. Escritores montam
+    // uma cópia com a alteração e a publicam com CAS; a versão antiga some quando o
+    // último leitor que a segurava termina (o GC faz o papel da recuperação por épocas)
+    private final Registro[][] baldes;
+    private final LongAdder colisoes;
+    private final LongAdder tamanho;
+    private final LongAdder publicacoesRepetidas;
+
+    public RcuHashTable(int capacidade) {
+        this.baldes = new Registro[capacidade][];
+        this.colisoes = new LongAdder();
+        this.tamanho = new LongAdder();
+        this.publicacoesRepetidas = new LongAdder();
+        Arrays.fill(baldes, LISTA_VAZIA);
+    }
+
+    private int funcaoHash(String codigo) {
+        // Mesma função do ChainingHashTable (primo 37)
+        int hash = 0;
+        for (int i = 0; i < codigo.length(); i++) {
+            hash = (hash * 37 + (codigo.charAt(i) - '0')) & 0x7FFFFFFF;
+        }
+        return hash % baldes.length;
+    }
+
+    private Registro[] ler(int indice) {
+        return (Registro[]) BALDES.getAcquire(baldes, indice);
+    }
+
+    private static int posicaoNaLista(Registro[] lista, Registro registro) {
+        for (int i = 0; i < lista.length; i++) {
+            if (lista[i].equals(registro)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        int indice = funcaoHash(registro.getCodigo());
+
+        while (true) {
+            Registro[] lista = ler(indice);
+            if (posicaoNaLista(lista, registro) != -1) {
+                colisoes.add(lista.length);
+                return;
+            }
+
+            Registro[] novaLista = Arrays.copyOf(lista, lista.length + 1);
+            novaLista[lista.length] = registro;
+            // Outro escritor publicou antes: refaz a cópia sobre a versão dele
+            if (BALDES.compareAndSet(baldes, indice, lista, novaLista)) {
+                // Mesmo critério do encadeamento: cada elemento já na lista = 1 colisão
+                colisoes.add(lista.length);
+                tamanho.increment();
+                return;
+            }
+            publicacoesRepetidas.increment();
+        }
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        // Uma leitura da versão publicada e uma varredura de array imutável:
+        // sem trava, sem repetição e sem escrita em memória compartilhada
+        return posicaoNaLista(ler(funcaoHash(registro.getCodigo())), registro) != -1;
+    }
+
+    @Override
+    public boolean remover(Registro registro) {
+        int indice = funcaoHash(registro.getCodigo());
+
+        while (true) {
+            Registro[] lista = ler(indice);
+            int posicao = posicaoNaLista(lista, registro);
+            if (posicao == -1) {
+                return false;
+            }
+
+            Registro[] novaLista = LISTA_VAZIA;
+            if (lista.length > 1) {
+                novaLista = new Registro[lista.length - 1];
+                System.arraycopy(lista, 0, novaLista, 0, posicao);
+                System.arraycopy(lista, posicao + 1, novaLista, posicao, lista.length - posicao - 1);
+            }
+            if (BALDES.compareAndSet(baldes, indice, lista, novaLista)) {
+                tamanho.decrement();
+                return true;
+            }
+            publicacoesRepetidas.increment();
+        }
+    }
+
+    public long getPublicacoesRepetidas() {
+        return publicacoesRepetidas.sum();
+    }
+
+    @Override
+    public boolean isConcorrente() {
+        return true;
+    }
+
+    @Override
+    public int getColisoes() {
+        return (int) colisoes.sum();
+    }
+
+    @Override
+    public int getTamanho() {
+        return (int) tamanho.sum();
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho.sum() / baldes.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        int listasVazias = 0;
+        int listasNaoVazias = 0;
+        for (int b = 0; b < baldes.length; b++) {
+            if (ler(b).length == 0) {
+                listasVazias++;
+            } else {
+                listasNaoVazias++;
+            }
+        }
+
+        System.out.println("** Estatísticas Encadeamento RCU **");
+        System.out.println("Listas vazias: " + listasVazias + " (" +
+                String.format("%.2f", listasVazias * 100.0 / baldes.length) + "%)");
+        System.out.println("Maior lista: " + getMaiorLista());
+
+        if (listasNaoVazias > 0) {
+            System.out.println("Média elementos por lista não vazia: " +
+                    String.format("%.2f", (double) getTamanho() / listasNaoVazias));
+        }
+        System.out.println("Publicações refeitas por disputa: " + publicacoesRepetidas.sum());
+
+        System.out.println("3 maiores listas:");
+        for (Integer tamanhoLista : getTresMaioresListas()) {
+            System.out.println("  - " + tamanhoLista + " elementos");
+        }
+
+        int[] gaps = getGaps();
+        if (listasNaoVazias > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int getMaiorLista() {
+        int maiorLista = 0;
+        for (int b = 0; b < baldes.length; b++) {
+            maiorLista = Math.max(maiorLista, ler(b).length);
+        }
+        return maiorLista;
+    }
+
+    @Override
+    public List<Integer> getTresMaioresListas() {
+        PriorityQueue<Integer> maioresListas = new PriorityQueue<>(Collections.reverseOrder());
+        for (int b = 0; b < baldes.length; b++) {
+            int tamanhoLista = ler(b).length;
+            if (tamanhoLista > 0) {
+                maioresListas.add(tamanhoLista);
+            }
+        }
+
+        List<Integer> resultado = new ArrayList<>();
+        for (int i = 0; i < 3 && !maioresListas.isEmpty(); i++) {
+            resultado.add(maioresListas.poll());
+        }
+        return resultado;
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < baldes.length; i++) {
+            if (ler(i).length > 0) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
@@ -1,13 +1,37 @@
 public class Registro {
-    private String codigo;
+    private final String codigo;
+    // Calculado uma vez: as funções de FuncaoHash trabalham sobre o inteiro a cada inserção/busca
+    private final int codigoNumerico;
 
     public Registro(String codigo) {
         if (codigo.length() != 9) throw new IllegalArgumentException("Código deve ter 9 dígitos");
         this.codigo = codigo;
+        // Só dígitos: um "+12345678" viraria o mesmo inteiro que "012345678" nas tabelas de int
+        int valor = 0;
+        for (int i = 0; i < codigo.length(); i++) {
+            int digito = codigo.charAt(i) - '0';
+            if (digito < 0 || digito > 9) throw new IllegalArgumentException("Código deve ter 9 dígitos");
+            valor = valor * 10 + digito;
+        }
+        this.codigoNumerico = valor;
+    }
+
+    public Registro(int codigo) {
+        if (codigo < 0 || codigo > 999999999) throw new IllegalArgumentException("Código deve ter 9 dígitos");
+        this.codigoNumerico = codigo;
+        // Zeros à esquerda escritos à mão: String.format custaria mais que o resto do carregamento
+        char[] digitos = new char[9];
+        for (int i = 8; i >= 0; i--) {
+            digitos[i] = (char) ('0' + codigo % 10);
+            codigo /= 10;
+        }
+        this.codigo = new String(digitos);
     }
 
     public String getCodigo() { return codigo; }
 
+    public int getCodigoNumerico() { return codigoNumerico; }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -12,12 +12,18 @@ public class ResultadoExperimento {
     private int maiorGap;
     private double mediaGaps;
     private List<String> tresMaioresListas;
+    // Modo de concorrência: threads usadas, vazão e vazão / (threads x vazão com 1 thread)
+    private int threads;
+    private double opsPorSegundo;
+    private double eficienciaEscalonamento;
 
     public ResultadoExperimento(String tipoHash, int tamanhoTabela, int tamanhoDados) {
         this.tipoHash = tipoHash;
         this.tamanhoTabela = tamanhoTabela;
         this.tamanhoDados = tamanhoDados;
         this.tresMaioresListas = new ArrayList<>();
+        this.threads = 1;
+        this.eficienciaEscalonamento = 1.0;
     }
 
     // Getters e Setters
@@ -42,25 +48,36 @@ public class ResultadoExperimento {
     public void setMediaGaps(double media) { this.mediaGaps = media; }
     public List<String> getTresMaioresListas() { return tresMaioresListas; }
     public void setTresMaioresListas(List<String> listas) { this.tresMaioresListas = listas; }
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+    public double getOpsPorSegundo() { return opsPorSegundo; }
+    public void setOpsPorSegundo(double ops) { this.opsPorSegundo = ops; }
+    public double getEficienciaEscalonamento() { return eficienciaEscalonamento; }
+    public void setEficienciaEscalonamento(double eficiencia) { this.eficienciaEscalonamento = eficiencia; }
 
     public String toCSV() {
-        return String.format("%s,%d,%d,%d,%d,%d,%.4f,%d,%d,%d,%.2f,\"%s\"",
+        return String.format("%s,%d,%d,%d,%d,%d,%.4f,%d,%d,%d,%.2f,\"%s\",%d,%.0f,%.4f",
                 tipoHash, tamanhoTabela, tamanhoDados, tempoInsercao, tempoBusca,
                 colisoes, fatorCarga, maiorLista, menorGap, maiorGap, mediaGaps,
-                String.join("; ", tresMaioresListas));
+                String.join("; ", tresMaioresListas), threads, opsPorSegundo, eficienciaEscalonamento);
     }
 
     public static String getCSVHeader() {
-        return "TipoHash,TamanhoTabela,TamanhoDados,TempoInsercao,TempoBusca,Colisoes,FatorCarga,MaiorLista,MenorGap,MaiorGap,MediaGaps,TresMaioresListas";
+        return "TipoHash,TamanhoTabela,TamanhoDados,TempoInsercao,TempoBusca,Colisoes,FatorCarga,MaiorLista,MenorGap,MaiorGap,MediaGaps,TresMaioresListas,Threads,OpsPorSegundo,EficienciaEscalonamento";
     }
     
     @Override
     public String toString() {
-        return String.format(
+        String texto = String.format(
             "Tipo: %s | Tabela: %d | Dados: %d | Inserção: %dms | Busca: %dms | " +
             "Colisões: %d | Fator: %.4f",
             tipoHash, tamanhoTabela, tamanhoDados, tempoInsercao, tempoBusca,
             colisoes, fatorCarga
         );
+        if (threads > 1) {
+            texto += String.format(" | Threads: %d | Ops/s: %.0f | Eficiência: %.2f",
+                    threads, opsPorSegundo, eficienciaEscalonamento);
+        }
+        return texto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+public class RobinHoodHashTable implements HashTableComRemocao {
+    private Registro[] tabela;
+    // Distância de cada elemento até sua posição de origem (número de probes)
+    private int[] distancias;
+    private int colisoes;
+    private int tamanho;
+    private int maiorDistancia;
+    // null = Knuth sobre os dígitos (função original)
+    private final FuncaoHash estrategia;
+
+    public RobinHoodHashTable(int capacidade) {
+        this(capacidade, null);
+    }
+
+    public RobinHoodHashTable(int capacidade, FuncaoHash estrategia) {
+        this.tabela = new Registro[capacidade];
+        this.distancias = new int[capacidade];
+        this.colisoes = 0;
+        this.tamanho = 0;
+        this.maiorDistancia = 0;
+        this.estrategia = estrategia;
+    }
+
+    private int funcaoHash(Registro registro) {
+        if (estrategia != null) {
+            return estrategia.indice(registro.getCodigoNumerico(), tabela.length);
+        }
+        // Mesma função multiplicativa de Knuth do Linear Probing, para comparação direta
+        String codigo = registro.getCodigo();
+        long hash = 0;
+        long A = 2654435761L;
+        for (int i = 0; i < codigo.length(); i++) {
+            hash = hash * A + (codigo.charAt(i) - '0');
+        }
+        return (int)((hash & 0x7FFFFFFF) % tabela.length);
+    }
+
+    private int rehash(int indice) {
+        return (indice + 1) % tabela.length;
+    }
+
+    private int localizar(Registro registro) {
+        int indice = funcaoHash(registro);
+        int distancia = 0;
+
+        // Um elemento a distância d nunca fica depois de outro mais "pobre" que d:
+        // ao encontrar distancias[indice] < distancia a busca pode parar
+        while (tabela[indice] != null && distancia <= distancias[indice]) {
+            if (tabela[indice].equals(registro)) {
+                return indice;
+            }
+            indice = rehash(indice);
+            distancia++;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        if (tamanho == tabela.length || localizar(registro) != -1) {
+            return;
+        }
+
+        Registro atual = registro;
+        int distancia = 0;
+        int indice = funcaoHash(registro);
+
+        while (tabela[indice] != null) {
+            // Rouba a posição de quem está mais perto de casa e segue inserindo o desalojado
+            if (distancias[indice] < distancia) {
+                Registro desalojado = tabela[indice];
+                int distanciaDesalojado = distancias[indice];
+                tabela[indice] = atual;
+                distancias[indice] = distancia;
+                maiorDistancia = Math.max(maiorDistancia, distancia);
+                atual = desalojado;
+                distancia = distanciaDesalojado;
+            }
+            colisoes++;
+            indice = rehash(indice);
+            distancia++;
+        }
+
+        tabela[indice] = atual;
+        distancias[indice] = distancia;
+        maiorDistancia = Math.max(maiorDistancia, distancia);
+        tamanho++;
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        return localizar(registro) != -1;
+    }
+
+    @Override
+    public boolean remover(Registro registro) {
+        int indice = localizar(registro);
+        if (indice == -1) {
+            return false;
+        }
+
+        // Backward shift: puxa os sucessores deslocados uma posição para trás,
+        // sem deixar marcador DELETED
+        int proximo = rehash(indice);
+        while (tabela[proximo] != null && distancias[proximo] > 0) {
+            tabela[indice] = tabela[proximo];
+            distancias[indice] = distancias[proximo] - 1;
+            indice = proximo;
+            proximo = rehash(proximo);
+        }
+
+        tabela[indice] = null;
+        distancias[indice] = 0;
+        tamanho--;
+        return true;
+    }
+
+    public int getMaiorDistancia() {
+        return maiorDistancia;
+    }
+
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+
+    @Override
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho / tabela.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        System.out.println("** Estatísticas Robin Hood **");
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+
+        long somaDistancias = 0;
+        for (int i = 0; i < tabela.length; i++) {
+            if (tabela[i] != null) {
+                somaDistancias += distancias[i];
+            }
+        }
+        System.out.println("Maior distância de probe: " + maiorDistancia);
+        if (tamanho > 0) {
+            System.out.println("Média distância de probe: " +
+                    String.format("%.2f", (double) somaDistancias / tamanho));
+        }
+
+        int[] gaps = getGaps();
+        if (tamanho > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < tabela.length; i++) {
+            if (tabela[i] != null) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}
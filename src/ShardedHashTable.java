@@ -0,0 +1,365 @@
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ShardedHashTable implements HashTable, AutoCloseable {
+    // Pedidos pendentes por shard; fila cheia bloqueia quem envia (contrapressão)
+    private static final int CAPACIDADE_FILA = 1024;
+    private static final Runnable PARAR = () -> { };
+
+    // Cada shard é uma tabela sequencial comum, tocada apenas pela sua thread dona:
+    // nenhuma sincronização dentro da tabela, só a fila de mensagens na entrada
+    private static final class Shard {
+        final HashTable tabela;
+        final BlockingQueue<Runnable> fila = new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+        final Thread dona;
+
+        Shard(HashTable tabela, String nome) {
+            this.tabela = tabela;
+            this.dona = new Thread(this::executar, nome);
+            this.dona.setDaemon(true);
+            this.dona.start();
+        }
+
+        private void executar() {
+            while (true) {
+                Runnable pedido;
+                try {
+                    pedido = fila.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (pedido == PARAR) {
+                    return;
+                }
+                // Pedido captura qualquer Throwable: uma falha numa operação não derruba a thread dona
+                pedido.run();
+            }
+        }
+
+        // Pedidos que ficaram na fila depois do PARAR: ninguém mais vai atendê-los
+        void recusarPendentes() {
+            List<Runnable> pendentes = new ArrayList<>();
+            fila.drainTo(pendentes);
+            for (Runnable pendente : pendentes) {
+                if (pendente instanceof Pedido<?> pedido) {
+                    pedido.recusar();
+                }
+            }
+        }
+    }
+
+    private static final class Pedido<T> implements Runnable {
+        final HashTable tabela;
+        final Function<HashTable, T> operacao;
+        final CompletableFuture<T> resultado = new CompletableFuture<>();
+
+        Pedido(HashTable tabela, Function<HashTable, T> operacao) {
+            this.tabela = tabela;
+            this.operacao = operacao;
+        }
+
+        @Override
+        public void run() {
+            try {
+                resultado.complete(operacao.apply(tabela));
+            } catch (Throwable e) {
+                // Inclui Error (ex.: OutOfMemoryError ao crescer): quem espera recebe a falha em vez de travar
+                resultado.completeExceptionally(e);
+            }
+        }
+
+        void recusar() {
+            resultado.completeExceptionally(new IllegalStateException("ShardedHashTable já foi fechada"));
+        }
+    }
+
+    private final Shard[] shards;
+    private volatile boolean fechada;
+    private final FuncaoHash estrategia;
+
+    public ShardedHashTable(int numShards, Supplier<HashTable> fabrica) {
+        this(numShards, fabrica, FuncaoHash.MURMUR3);
+    }
+
+    public ShardedHashTable(int numShards, Supplier<HashTable> fabrica, FuncaoHash estrategia) {
+        if (numShards <= 0) {
+            throw new IllegalArgumentException("Número de shards deve ser positivo");
+        }
+        this.estrategia = estrategia;
+        this.shards = new Shard[numShards];
+        for (int i = 0; i < numShards; i++) {
+            shards[i] = new Shard(fabrica.get(), "shard-" + i);
+        }
+    }
+
+    private long funcaoHash(Registro registro) {
+        // Padrão: fmix64 do MurmurHash3; os bits altos escolhem o shard, os baixos ficam para a tabela interna
+        return estrategia.hash64(registro.getCodigoNumerico());
+    }
+
+    private int shardDe(Registro registro) {
+        // 32 bits altos do hash reduzidos a [0, numShards) por multiplicação, sem divisão
+        return (int) (((funcaoHash(registro) >>> 32) * shards.length) >>> 32);
+    }
+
+    private <T> CompletableFuture<T> enviar(Shard shard, Function<HashTable, T> operacao) {
+        if (fechada) {
+            throw new IllegalStateException("ShardedHashTable já foi fechada");
+        }
+        Pedido<T> pedido = new Pedido<>(shard.tabela, operacao);
+        try {
+            shard.fila.put(pedido);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pedido.resultado.completeExceptionally(e);
+            return pedido.resultado;
+        }
+        // close() pode ter corrido entre a checagem e o put. Com a dona já encerrada, o pedido
+        // ficou depois do PARAR e talvez depois da limpeza feita por close(): recusa aqui
+        if (fechada && !shard.dona.isAlive()) {
+            shard.recusarPendentes();
+        }
+        return pedido.resultado;
+    }
+
+    // Versão síncrona: repassa a exceção original da tabela do shard (ex.: TabelaCheiaException)
+    private static <T> T aguardar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+
+    // Separa o lote por shard guardando a posição original de cada registro
+    private List<List<Integer>> particionar(Registro[] lote) {
+        List<List<Integer>> posicoes = new ArrayList<>(shards.length);
+        for (int s = 0; s < shards.length; s++) {
+            posicoes.add(new ArrayList<>());
+        }
+        for (int i = 0; i < lote.length; i++) {
+            posicoes.get(shardDe(lote[i])).add(i);
+        }
+        return posicoes;
+    }
+
+    // Uma mensagem por shard com todos os registros do lote que caem nele
+    public CompletableFuture<Void> inserirAssincrono(Registro[] lote) {
+        List<List<Integer>> posicoes = particionar(lote);
+        List<CompletableFuture<Void>> pedidos = new ArrayList<>();
+        for (int s = 0; s < shards.length; s++) {
+            List<Integer> doShard = posicoes.get(s);
+            if (doShard.isEmpty()) {
+                continue;
+            }
+            pedidos.add(enviar(shards[s], tabela -> {
+                for (int i : doShard) {
+                    tabela.inserir(lote[i]);
+                }
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(pedidos.toArray(new CompletableFuture<?>[0]));
+    }
+
+    // encontrados[i] corresponde a lote[i]
+    public CompletableFuture<boolean[]> buscarAssincrono(Registro[] lote) {
+        boolean[] encontrados = new boolean[lote.length];
+        List<List<Integer>> posicoes = particionar(lote);
+        List<CompletableFuture<Void>> pedidos = new ArrayList<>();
+        for (int s = 0; s < shards.length; s++) {
+            List<Integer> doShard = posicoes.get(s);
+            if (doShard.isEmpty()) {
+                continue;
+            }
+            // Cada shard escreve posições disjuntas de encontrados; o allOf publica tudo para quem espera
+            pedidos.add(enviar(shards[s], tabela -> {
+                for (int i : doShard) {
+                    encontrados[i] = tabela.buscar(lote[i]);
+                }
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(pedidos.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignorado -> encontrados);
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        aguardar(enviar(shards[shardDe(registro)], tabela -> {
+            tabela.inserir(registro);
+            return null;
+        }));
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        return aguardar(enviar(shards[shardDe(registro)], tabela -> tabela.buscar(registro)));
+    }
+
+    // Estatísticas também passam pela fila: só a thread dona lê o estado do shard
+    private <T> List<T> consultarTodos(Function<HashTable, T> consulta) {
+        List<CompletableFuture<T>> pedidos = new ArrayList<>();
+        for (Shard shard : shards) {
+            pedidos.add(enviar(shard, consulta));
+        }
+        List<T> resultados = new ArrayList<>();
+        for (CompletableFuture<T> pedido : pedidos) {
+            resultados.add(aguardar(pedido));
+        }
+        return resultados;
+    }
+
+    public int getNumShards() {
+        return shards.length;
+    }
+
+    @Override
+    public boolean isConcorrente() {
+        return true;
+    }
+
+    @Override
+    public int getColisoes() {
+        int colisoes = 0;
+        for (int colisoesShard : consultarTodos(HashTable::getColisoes)) {
+            colisoes += colisoesShard;
+        }
+        return colisoes;
+    }
+
+    @Override
+    public int getTamanho() {
+        int tamanho = 0;
+        for (int tamanhoShard : consultarTodos(HashTable::getTamanho)) {
+            tamanho += tamanhoShard;
+        }
+        return tamanho;
+    }
+
+    @Override
+    public double getFatorCarga() {
+        // Shards criados pela mesma fábrica têm a mesma capacidade: a média é o fator global
+        double soma = 0;
+        for (double fatorShard : consultarTodos(HashTable::getFatorCarga)) {
+            soma += fatorShard;
+        }
+        return soma / shards.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        List<Integer> tamanhos = consultarTodos(HashTable::getTamanho);
+        int menor = Collections.min(tamanhos);
+        int maior = Collections.max(tamanhos);
+
+        System.out.println("** Estatísticas Sharded (" + shards.length + " shards) **");
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+        System.out.println("Elementos por shard: menor " + menor + ", maior " + maior);
+
+        int[] gaps = getGaps();
+        if (getTamanho() > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int getMaiorLista() {
+        int maiorLista = 0;
+        for (int maiorShard : consultarTodos(HashTable::getMaiorLista)) {
+            maiorLista = Math.max(maiorLista, maiorShard);
+        }
+        return maiorLista;
+    }
+
+    @Override
+    public List<Integer> getTresMaioresListas() {
+        PriorityQueue<Integer> maioresListas = new PriorityQueue<>(Collections.reverseOrder());
+        for (List<Integer> doShard : consultarTodos(HashTable::getTresMaioresListas)) {
+            maioresListas.addAll(doShard);
+        }
+
+        List<Integer> resultado = new ArrayList<>();
+        for (int i = 0; i < 3 && !maioresListas.isEmpty(); i++) {
+            resultado.add(maioresListas.poll());
+        }
+        return resultado;
+    }
+
+    @Override
+    public int[] getGaps() {
+        // Gaps só existem dentro de cada shard: menor e maior globais, média das médias
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaMedias = 0;
+        int shardsComGaps = 0;
+
+        for (int[] gaps : consultarTodos(HashTable::getGaps)) {
+            if (gaps[0] == 0 && gaps[1] == 0 && gaps[2] == 0) {
+                continue;
+            }
+            menorGap = Math.min(menorGap, gaps[0]);
+            maiorGap = Math.max(maiorGap, gaps[1]);
+            somaMedias += gaps[2];
+            shardsComGaps++;
+        }
+
+        if (shardsComGaps == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaMedias / shardsComGaps)};
+    }
+
+    @Override
+    public void close() {
+        if (fechada) {
+            return;
+        }
+        fechada = true;
+        // PARAR entra depois dos pedidos já enfileirados, que ainda são atendidos
+        for (Shard shard : shards) {
+            try {
+                shard.fila.put(PARAR);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                shard.dona.interrupt();
+            }
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.dona.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // Pedidos enfileirados depois do PARAR por quem passou pela checagem de fechada
+            shard.recusarPendentes();
+        }
+        // Fechar as tabelas dos shards que tenham recursos próprios (ex.: OffHeapHashTable)
+        for (Shard shard : shards) {
+            if (shard.tabela instanceof AutoCloseable recurso) {
+                try {
+                    recurso.close();
+                } catch (Exception e) {
+                    throw new RuntimeException("Erro ao fechar shard: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.*;
+
+public class SwissHashTable implements HashTable {
+    // Grupo de 16 bytes de controle, comparados de 8 em 8 (SWAR em long)
+    private static final int GRUPO = 16;
+    // Byte de controle: 0x80 = vazio, 0..127 = ocupado (7 bits de impressão digital do hash)
+    private static final byte VAZIO = (byte) 0x80;
+    private static final long LSB = 0x0101010101010101L;
+    private static final long MSB = 0x8080808080808080L;
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private byte[] controle;
+    private Registro[] tabela;
+    private int numGrupos;
+    private int colisoes;
+    private int tamanho;
+    private long comparacoesFalsas;
+    private final FuncaoHash estrategia;
+
+    public SwissHashTable(int capacidade) {
+        this(capacidade, FuncaoHash.MURMUR3);
+    }
+
+    // A estratégia precisa misturar bem os bits baixos (impressão digital) e os altos (grupo)
+    public SwissHashTable(int capacidade, FuncaoHash estrategia) {
+        this.estrategia = estrategia;
+        this.numGrupos = Math.max(1, (capacidade + GRUPO - 1) / GRUPO);
+        this.controle = new byte[numGrupos * GRUPO];
+        this.tabela = new Registro[numGrupos * GRUPO];
+        this.colisoes = 0;
+        this.tamanho = 0;
+        this.comparacoesFalsas = 0;
+        Arrays.fill(controle, VAZIO);
+    }
+
+    private long funcaoHash(Registro registro) {
+        // Padrão: fmix64 do MurmurHash3, em que os 7 bits baixos e os bits altos são independentes
+        return estrategia.hash64(registro.getCodigoNumerico());
+    }
+
+    private int grupoInicial(long hash) {
+        return (int) Long.remainderUnsigned(hash >>> 7, numGrupos);
+    }
+
+    private static byte impressaoDigital(long hash) {
+        return (byte) (hash & 0x7F);
+    }
+
+    // Bit 7 de cada byte ligado onde o byte de controle é igual a h2
+    private static long coincidencias(long palavra, byte h2) {
+        long x = palavra ^ (LSB * h2);
+        return (x - LSB) & ~x & MSB;
+    }
+
+    private static long vazios(long palavra) {
+        return palavra & MSB;
+    }
+
+    private long palavra(int indice) {
+        return (long) LONGS.get(controle, indice);
+    }
+
+    private int localizar(Registro registro, long hash) {
+        byte h2 = impressaoDigital(hash);
+        int grupo = grupoInicial(hash);
+
+        for (int sondados = 0; sondados < numGrupos; sondados++) {
+            int base = grupo * GRUPO;
+            boolean temVazio = false;
+            for (int meio = base; meio < base + GRUPO; meio += 8) {
+                long palavra = palavra(meio);
+                long bits = coincidencias(palavra, h2);
+                while (bits != 0) {
+                    int indice = meio + (Long.numberOfTrailingZeros(bits) >>> 3);
+                    if (tabela[indice] != null && tabela[indice].equals(registro)) {
+                        return indice;
+                    }
+                    comparacoesFalsas++;
+                    bits &= bits - 1;
+                }
+                temVazio |= vazios(palavra) != 0;
+            }
+            // Grupo com posição vazia encerra a busca sem tocar mais nenhum Registro
+            if (temVazio) {
+                return -1;
+            }
+            grupo = grupo + 1 == numGrupos ? 0 : grupo + 1;
+        }
+        return -1;
+    }
+
+    @Override
+    public void inserir(Registro registro) {
+        long hash = funcaoHash(registro);
+        if (tamanho == tabela.length || localizar(registro, hash) != -1) {
+            return;
+        }
+
+        int grupo = grupoInicial(hash);
+        while (true) {
+            int base = grupo * GRUPO;
+            for (int meio = base; meio < base + GRUPO; meio += 8) {
+                long livres = vazios(palavra(meio));
+                if (livres != 0) {
+                    int indice = meio + (Long.numberOfTrailingZeros(livres) >>> 3);
+                    controle[indice] = impressaoDigital(hash);
+                    tabela[indice] = registro;
+                    tamanho++;
+                    return;
+                }
+            }
+            colisoes++;
+            grupo = grupo + 1 == numGrupos ? 0 : grupo + 1;
+        }
+    }
+
+    @Override
+    public boolean buscar(Registro registro) {
+        return localizar(registro, funcaoHash(registro)) != -1;
+    }
+
+    @Override
+    public int getColisoes() {
+        return colisoes;
+    }
+
+    @Override
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public double getFatorCarga() {
+        return (double) tamanho / tabela.length;
+    }
+
+    @Override
+    public void estatisticas() {
+        System.out.println("** Estatísticas Swiss Table **");
+        System.out.println("Fator de carga: " + String.format("%.4f", getFatorCarga()));
+        System.out.println("Grupos: " + numGrupos + " x " + GRUPO + " posições");
+        System.out.println("Grupos cheios pulados na inserção: " + colisoes);
+        System.out.println("Impressões digitais coincidentes sem a chave: " + comparacoesFalsas);
+
+        int[] gaps = getGaps();
+        if (tamanho > 1) {
+            System.out.println("Menor gap: " + gaps[0]);
+            System.out.println("Maior gap: " + gaps[1]);
+            System.out.println("Média gaps: " + gaps[2]);
+        } else {
+            System.out.println("Sem gaps para calcular");
+        }
+    }
+
+    @Override
+    public int[] getGaps() {
+        int menorGap = Integer.MAX_VALUE;
+        int maiorGap = 0;
+        long somaGaps = 0;
+        int gapsCount = 0;
+        int ultimaPosicaoOcupada = -1;
+
+        for (int i = 0; i < controle.length; i++) {
+            if (controle[i] != VAZIO) {
+                if (ultimaPosicaoOcupada != -1) {
+                    int gap = i - ultimaPosicaoOcupada - 1;
+                    menorGap = Math.min(menorGap, gap);
+                    maiorGap = Math.max(maiorGap, gap);
+                    somaGaps += gap;
+                    gapsCount++;
+                }
+                ultimaPosicaoOcupada = i;
+            }
+        }
+
+        if (gapsCount == 0) {
+            return new int[]{0, 0, 0};
+        }
+
+        return new int[]{menorGap, maiorGap, (int)(somaGaps / gapsCount)};
+    }
+}